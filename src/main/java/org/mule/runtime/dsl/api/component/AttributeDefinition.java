@@ -6,9 +6,15 @@
  */
 package org.mule.runtime.dsl.api.component;
 
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+
 import static com.google.common.base.Preconditions.checkState;
+import static java.lang.String.format;
+import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
 
+import org.mule.runtime.api.exception.MuleRuntimeException;
+
 import java.util.Optional;
 
 /**
@@ -42,49 +48,130 @@ public class AttributeDefinition {
   private String childIdentifier;
   private boolean referenceConfigurationParameter;
 
+  // Precomputed on build, so that accept does not need to find out the kind nor allocate the optionals on each call. The builder
+  // keeps a reference to the built definition, so every builder method that changes it computes these again.
+  private Kind kind = Kind.UNKNOWN;
+  private Optional<TypeConverter> typeConverterOptional = empty();
+  private Optional<String> wrapperIdentifierOptional = empty();
+  private Optional<String> childIdentifierOptional = empty();
+
   private AttributeDefinition() {}
 
   /**
    * @param visitor handler for the configuration option set for this parameter.
    */
   public void accept(AttributeDefinitionVisitor visitor) {
+    switch (kind) {
+      case REFERENCE_CONFIGURATION_PARAMETER:
+        visitor.onReferenceConfigurationParameter(configParameterName, defaultValue, typeConverterOptional);
+        break;
+      case CONFIGURATION_PARAMETER:
+        visitor.onConfigurationParameter(configParameterName, defaultValue, typeConverterOptional);
+        break;
+      case REFERENCE_OBJECT:
+        visitor.onReferenceObject(referenceObject);
+        break;
+      case UNDEFINED_SIMPLE_PARAMETERS:
+        visitor.onUndefinedSimpleParameters();
+        break;
+      case UNDEFINED_COMPLEX_PARAMETERS:
+        visitor.onUndefinedComplexParameters();
+        break;
+      case REFERENCE_SIMPLE_PARAMETER:
+        visitor.onReferenceSimpleParameter(referenceSimpleParameter);
+        break;
+      case SOFT_REFERENCE_SIMPLE_PARAMETER:
+        visitor.onSoftReferenceSimpleParameter(softReferenceSimpleParameter);
+        break;
+      case REFERENCE_FIXED_PARAMETER:
+        visitor.onReferenceFixedParameter(referenceFixedParameter);
+        break;
+      case COMPLEX_CHILD_COLLECTION:
+        visitor.onComplexChildCollection(childObjectType, wrapperIdentifierOptional);
+        break;
+      case COMPLEX_CHILD_MAP:
+        visitor.onComplexChildMap(mapKeyType, childObjectType, wrapperIdentifier);
+        break;
+      case COMPLEX_CHILD:
+        visitor.onComplexChild(childObjectType, wrapperIdentifierOptional, childIdentifierOptional);
+        break;
+      case VALUE_FROM_TEXT_CONTENT:
+        visitor.onValueFromTextContent();
+        break;
+      case MULTIPLE_VALUES:
+        visitor.onMultipleValues(definitions);
+        break;
+      case FIXED_VALUE:
+        visitor.onFixedValue(defaultValue);
+        break;
+      default:
+        throw new MuleRuntimeException(createStaticMessage(format("Attribute definition %s has no parameter, reference, child, "
+            + "text content or value set (typeConverter: %s, wrapperIdentifier: %s, childIdentifier: %s)",
+                                                                  this, typeConverter, wrapperIdentifier, childIdentifier)));
+    }
+  }
+
+  private AttributeDefinition precompute() {
+    kind = resolveKind();
+    typeConverterOptional = ofNullable(typeConverter);
+    wrapperIdentifierOptional = ofNullable(wrapperIdentifier);
+    childIdentifierOptional = ofNullable(childIdentifier);
+    return this;
+  }
+
+  private Kind resolveKind() {
     if (configParameterName != null) {
-      if (referenceConfigurationParameter) {
-        visitor.onReferenceConfigurationParameter(configParameterName, defaultValue, ofNullable(typeConverter));
-      } else {
-        visitor.onConfigurationParameter(configParameterName, defaultValue, ofNullable(typeConverter));
-      }
+      return referenceConfigurationParameter ? Kind.REFERENCE_CONFIGURATION_PARAMETER : Kind.CONFIGURATION_PARAMETER;
     } else if (referenceObject != null) {
-      visitor.onReferenceObject(referenceObject);
+      return Kind.REFERENCE_OBJECT;
     } else if (undefinedSimpleParametersHolder) {
-      visitor.onUndefinedSimpleParameters();
+      return Kind.UNDEFINED_SIMPLE_PARAMETERS;
     } else if (undefinedComplexParametersHolder) {
-      visitor.onUndefinedComplexParameters();
+      return Kind.UNDEFINED_COMPLEX_PARAMETERS;
     } else if (referenceSimpleParameter != null) {
-      visitor.onReferenceSimpleParameter(referenceSimpleParameter);
+      return Kind.REFERENCE_SIMPLE_PARAMETER;
     } else if (softReferenceSimpleParameter != null) {
-      visitor.onSoftReferenceSimpleParameter(softReferenceSimpleParameter);
+      return Kind.SOFT_REFERENCE_SIMPLE_PARAMETER;
     } else if (referenceFixedParameter != null) {
-      visitor.onReferenceFixedParameter(referenceFixedParameter);
+      return Kind.REFERENCE_FIXED_PARAMETER;
     } else if (childObjectType != null && collection) {
-      visitor.onComplexChildCollection(childObjectType, ofNullable(wrapperIdentifier));
+      return Kind.COMPLEX_CHILD_COLLECTION;
     } else if (childObjectType != null && map) {
-      visitor.onComplexChildMap(mapKeyType, childObjectType, wrapperIdentifier);
+      return Kind.COMPLEX_CHILD_MAP;
     } else if (childObjectType != null) {
-      Optional<String> wrapperIdentifier = ofNullable(this.wrapperIdentifier);
-      Optional<String> childIdentifier = ofNullable(this.childIdentifier);
-      visitor.onComplexChild(childObjectType, wrapperIdentifier, childIdentifier);
+      return Kind.COMPLEX_CHILD;
     } else if (valueFromTextContent) {
-      visitor.onValueFromTextContent();
+      return Kind.VALUE_FROM_TEXT_CONTENT;
     } else if (definitions != null) {
-      visitor.onMultipleValues(definitions);
+      return Kind.MULTIPLE_VALUES;
     } else if (hasDefaultValue) {
-      visitor.onFixedValue(defaultValue);
+      return Kind.FIXED_VALUE;
     } else {
-      throw new RuntimeException();
+      return Kind.UNKNOWN;
     }
   }
 
+  /**
+   * The method of {@link AttributeDefinitionVisitor} that {@link #accept(AttributeDefinitionVisitor)} calls.
+   */
+  private enum Kind {
+    REFERENCE_CONFIGURATION_PARAMETER,
+    CONFIGURATION_PARAMETER,
+    REFERENCE_OBJECT,
+    UNDEFINED_SIMPLE_PARAMETERS,
+    UNDEFINED_COMPLEX_PARAMETERS,
+    REFERENCE_SIMPLE_PARAMETER,
+    SOFT_REFERENCE_SIMPLE_PARAMETER,
+    REFERENCE_FIXED_PARAMETER,
+    COMPLEX_CHILD_COLLECTION,
+    COMPLEX_CHILD_MAP,
+    COMPLEX_CHILD,
+    VALUE_FROM_TEXT_CONTENT,
+    MULTIPLE_VALUES,
+    FIXED_VALUE,
+    UNKNOWN
+  }
+
   public static class Builder {
 
     private final AttributeDefinition attributeDefinition = new AttributeDefinition();
@@ -136,6 +223,7 @@ public class AttributeDefinition {
     public Builder withDefaultValue(Object defaultValue) {
       attributeDefinition.hasDefaultValue = true;
       attributeDefinition.defaultValue = defaultValue;
+      attributeDefinition.precompute();
       return this;
     }
 
@@ -166,6 +254,7 @@ public class AttributeDefinition {
     public Builder withWrapperIdentifier(String identifier) {
       checkState(attributeDefinition.childObjectType != null, "Identifier can only be used with children component definitions");
       attributeDefinition.wrapperIdentifier = identifier;
+      attributeDefinition.precompute();
       return this;
     }
 
@@ -316,6 +405,7 @@ public class AttributeDefinition {
 
     public Builder withIdentifier(String childIdentifier) {
       attributeDefinition.childIdentifier = childIdentifier;
+      attributeDefinition.precompute();
       return this;
     }
 
@@ -323,7 +413,7 @@ public class AttributeDefinition {
      * @return the {@code AttributeDefinition} created based on the defined configuration.
      */
     public AttributeDefinition build() {
-      return attributeDefinition;
+      return attributeDefinition.precompute();
     }
   }
 
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.component;
+
+import org.mule.api.annotation.NoExtend;
+import org.mule.api.annotation.NoInstantiate;
+
+/**
+ * Metrics of the classes resolved by the converters from {@link CommonTypeConverters#stringToClassConverter()}, as of the moment
+ * they were obtained.
+ *
+ * @see CommonTypeConverters#getClassResolutionStatistics()
+ *
+ * @since 1.10
+ */
+@NoExtend
+@NoInstantiate
+public final class ClassResolutionStatistics {
+
+  private final long hitCount;
+  private final long notFoundHitCount;
+  private final long missCount;
+
+  ClassResolutionStatistics(long hitCount, long notFoundHitCount, long missCount) {
+    this.hitCount = hitCount;
+    this.notFoundHitCount = notFoundHitCount;
+    this.missCount = missCount;
+  }
+
+  /**
+   * @return how many times a class was resolved from the cache.
+   */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * @return how many times a name was found in the cache as not resolvable.
+   */
+  public long getNotFoundHitCount() {
+    return notFoundHitCount;
+  }
+
+  /**
+   * @return how many times a class had to be loaded from the classloader because it was not in the cache.
+   */
+  public long getMissCount() {
+    return missCount;
+  }
+}
@@ -6,10 +6,12 @@
  */
 package org.mule.runtime.dsl.api.component;
 
-import static java.lang.Enum.valueOf;
 import static java.lang.Thread.currentThread;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 
+import org.mule.runtime.dsl.internal.component.ClassResolutionCache;
+import org.mule.runtime.dsl.internal.component.EnumLookup;
+
 /**
  * Set of common {@link TypeConverter}s to be reused in different {@link ComponentBuildingDefinitionProvider}s
  *
@@ -18,12 +20,15 @@ import static org.mule.runtime.api.util.Preconditions.checkArgument;
 public class CommonTypeConverters {
 
   /**
+   * Classes are resolved with the context classloader of the current thread. Resolutions are cached by classloader, including
+   * the names that could not be resolved, until {@link #invalidateClassResolutions(ClassLoader) invalidated}.
+   *
    * @return a converter that transforms class name to a {@code Class} instance.
    */
   public static TypeConverter<String, Class> stringToClassConverter() {
     return className -> {
       try {
-        return currentThread().getContextClassLoader().loadClass(className);
+        return ClassResolutionCache.shared().resolve(currentThread().getContextClassLoader(), className);
       } catch (ClassNotFoundException e) {
         // TODO MULE-10835 use MuleRuntimeException once it's moved to the API.
         throw new RuntimeException(e);
@@ -32,14 +37,60 @@ public class CommonTypeConverters {
   }
 
   /**
-   * @return a converter that transforms a String to an Enum.
+   * Discards the classes resolved by the converters from {@link #stringToClassConverter()} with the given classloader, along
+   * with the names that could not be resolved with it, i.e.: when classes that were not found before may now be available from
+   * it.
+   *
+   * @param classLoader the classloader to discard the resolutions of.
+   *
+   * @since 1.10
+   */
+  public static void invalidateClassResolutions(ClassLoader classLoader) {
+    checkArgument(classLoader != null, "classLoader cannot be null");
+    ClassResolutionCache.shared().invalidate(classLoader);
+  }
+
+  /**
+   * @return the metrics of the resolutions done by the converters from {@link #stringToClassConverter()}, as of this call.
+   *
+   * @since 1.10
+   */
+  public static ClassResolutionStatistics getClassResolutionStatistics() {
+    ClassResolutionCache cache = ClassResolutionCache.shared();
+    return new ClassResolutionStatistics(cache.getHitCount(), cache.getNotFoundHitCount(), cache.getMissCount());
+  }
+
+  /**
+   * @return a converter that transforms a String to an Enum. The constants of the enum are looked up by their exact name. Values
+   *         that don't match any constant fail with an {@link InvalidEnumValueException}.
    */
   public static TypeConverter<String, Enum> stringToEnumConverter(Class<? extends Enum> enumType) {
+    return stringToEnumConverter(enumType, false);
+  }
+
+  /**
+   * @param enumType   the enum type to convert to.
+   * @param ignoreCase whether the constants of the enum are looked up by their name ignoring case. A constant whose name matches
+   *                   exactly takes precedence.
+   * @return a converter that transforms a String to an Enum. Values that don't match any constant fail with an
+   *         {@link InvalidEnumValueException}.
+   *
+   * @since 1.10
+   */
+  public static TypeConverter<String, Enum> stringToEnumConverter(Class<? extends Enum> enumType, boolean ignoreCase) {
     checkArgument(enumType != null, "enumType cannot be null");
-    return enumAsString -> {
-      checkArgument(enumAsString != null, "enumAsString cannot be null");
-      return valueOf(enumType, enumAsString);
-    };
+    EnumLookup lookup = EnumLookup.of(enumType);
+    if (ignoreCase) {
+      return enumAsString -> {
+        checkArgument(enumAsString != null, "enumAsString cannot be null");
+        return lookup.getIgnoreCase(enumAsString);
+      };
+    } else {
+      return enumAsString -> {
+        checkArgument(enumAsString != null, "enumAsString cannot be null");
+        return lookup.get(enumAsString);
+      };
+    }
   }
 
   private CommonTypeConverters() {}
@@ -7,13 +7,14 @@
 package org.mule.runtime.dsl.api.component;
 
 import static com.google.common.base.Preconditions.checkState;
-import static com.google.common.collect.ImmutableSet.copyOf;
 import static java.lang.String.format;
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Stream.concat;
 import static org.mule.runtime.api.component.ComponentIdentifier.builder;
 
 import org.mule.runtime.api.component.ComponentIdentifier;
@@ -24,13 +25,15 @@ import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.Startable;
 import org.mule.runtime.api.lifecycle.Stoppable;
 
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+
+import com.google.common.collect.ImmutableSet;
 
 /**
  * Defines the mapping between a component configuration and how the object that represents that model in runtime is created.
@@ -47,21 +50,56 @@ public class ComponentBuildingDefinition<T> {
       "Type converter can only be used with simple types. You can't use it with %s";
   public static final String KEY_TYPE_CONVERTER_AND_NO_MAP_TYPE = "key type converter can only be used with objects of type Map";
 
-  private TypeDefinition typeDefinition;
-  private boolean scope;
-  private List<AttributeDefinition> constructorAttributeDefinition = new ArrayList<>();
-  private List<SetterAttributeDefinition> setterParameterDefinitions = new ArrayList<>();
-  private final Set<String> ignoredConfigurationParameters = new HashSet<>();
-  private Class<? extends ObjectFactory<T>> objectFactoryType;
-  private boolean prototype;
-  private boolean named = false;
-  private ComponentIdentifier componentIdentifier;
-  private Optional<TypeConverter> typeConverter = empty();
-  private Optional<TypeConverter> keyTypeConverter = empty();
-  private boolean alwaysEnabled = false;
-  private String registrationName;
-
-  private ComponentBuildingDefinition() {}
+  private final TypeDefinition typeDefinition;
+  private final boolean scope;
+  private final List<AttributeDefinition> constructorAttributeDefinition;
+  private final List<SetterAttributeDefinition> setterParameterDefinitions;
+  private final Set<String> ignoredConfigurationParameters;
+  private final Class<? extends ObjectFactory<T>> objectFactoryType;
+  private final boolean prototype;
+  private final boolean named;
+  private final ComponentIdentifier componentIdentifier;
+  private final Optional<TypeConverter> typeConverter;
+  private final Optional<TypeConverter> keyTypeConverter;
+  private final boolean alwaysEnabled;
+  private final String registrationName;
+
+  // Views precomputed when built, since definitions are frozen from then on.
+  private final List<AttributeDefinition> attributesDefinitions;
+  private final Map<String, AttributeDefinition> setterAttributeDefinitionsByName;
+
+  private ComponentBuildingDefinition(Builder<T> builder) {
+    this.typeDefinition = builder.typeDefinition;
+    this.scope = builder.scope;
+    this.prototype = builder.prototype;
+    this.named = builder.named;
+    this.alwaysEnabled = builder.alwaysEnabled;
+    this.objectFactoryType = builder.objectFactoryType;
+    this.registrationName = builder.registrationName;
+    this.typeConverter = builder.typeConverter;
+    this.keyTypeConverter = builder.keyTypeConverter;
+    this.ignoredConfigurationParameters = builder.ignoredConfigurationParameter != null
+        ? ImmutableSet.of(builder.ignoredConfigurationParameter)
+        : ImmutableSet.of();
+    this.componentIdentifier = builder().name(builder.identifier).namespace(builder.namespace).build();
+
+    AttributeDefinition[] constructorAttributes =
+        ParameterNode.toArray(builder.lastConstructorParameter, AttributeDefinition[]::new);
+    SetterAttributeDefinition[] setterAttributes =
+        ParameterNode.toArray(builder.lastSetterParameter, SetterAttributeDefinition[]::new);
+    this.constructorAttributeDefinition = unmodifiableList(asList(constructorAttributes));
+    this.setterParameterDefinitions = unmodifiableList(asList(setterAttributes));
+
+    AttributeDefinition[] allAttributes = new AttributeDefinition[setterAttributes.length + constructorAttributes.length];
+    Map<String, AttributeDefinition> byName = new LinkedHashMap<>();
+    for (int i = 0; i < setterAttributes.length; ++i) {
+      allAttributes[i] = setterAttributes[i].getAttributeDefinition();
+      byName.put(setterAttributes[i].getAttributeName(), setterAttributes[i].getAttributeDefinition());
+    }
+    arraycopy(constructorAttributes, 0, allAttributes, setterAttributes.length, constructorAttributes.length);
+    this.attributesDefinitions = unmodifiableList(asList(allAttributes));
+    this.setterAttributeDefinitionsByName = unmodifiableMap(byName);
+  }
 
   /**
    * @return a definition for the object type that must be created for this component
@@ -78,21 +116,31 @@ public class ComponentBuildingDefinition<T> {
   }
 
   /**
-   * @return an ordered list of the constructor parameters that must be set to create the domain object
+   * Since 1.10 the returned list is unmodifiable and shared by all callers. Before, it was the mutable list held by the
+   * definition.
+   *
+   * @return an ordered, unmodifiable list of the constructor parameters that must be set to create the domain object
    */
   public List<AttributeDefinition> getConstructorAttributeDefinition() {
     return constructorAttributeDefinition;
   }
 
   /**
-   * @return a list of the attributes and its definitions that may contain configuration for the domain object to be created.
+   * Since 1.10 the returned list is unmodifiable and shared by all callers. Before, it was the mutable list held by the
+   * definition.
+   *
+   * @return an unmodifiable list of the attributes and its definitions that may contain configuration for the domain object to be
+   *         created.
    */
   public List<SetterAttributeDefinition> getSetterParameterDefinitions() {
     return setterParameterDefinitions;
   }
 
+  /**
+   * @return the configuration parameters to ignore when building the domain object.
+   */
   public Set<String> getIgnoredConfigurationParameters() {
-    return copyOf(ignoredConfigurationParameters);
+    return ignoredConfigurationParameters;
   }
 
   /**
@@ -160,22 +208,62 @@ public class ComponentBuildingDefinition<T> {
   }
 
   /**
-   * @return the complete list of {@link AttributeDefinition}s
+   * Since 1.10 the returned list is computed once and is unmodifiable. Before, a new mutable list was returned on each call.
+   *
+   * @return the complete, unmodifiable list of {@link AttributeDefinition}s
    */
   public List<AttributeDefinition> getAttributesDefinitions() {
-    return concat(setterParameterDefinitions.stream().map(SetterAttributeDefinition::getAttributeDefinition),
-                  constructorAttributeDefinition.stream()).collect(toList());
+    return attributesDefinitions;
+  }
+
+  /**
+   * @param attributeName the name of the field set by a setter parameter.
+   * @return the definition of the setter parameter for the given field, if any. If there is more than one for the same field, the
+   *         last one.
+   *
+   * @since 1.10
+   */
+  public Optional<AttributeDefinition> getSetterAttributeDefinition(String attributeName) {
+    return ofNullable(setterAttributeDefinitionsByName.get(attributeName));
+  }
+
+  /**
+   * @return an unmodifiable map from the name of the field set by each setter parameter to its definition, in the order they were
+   *         added. If there is more than one for the same field, the last one.
+   *
+   * @since 1.10
+   */
+  public Map<String, AttributeDefinition> getSetterAttributeDefinitionsByName() {
+    return setterAttributeDefinitionsByName;
   }
 
   /**
    * Builder for {@code ComponentBuildingDefinition}
    * <p/>
+   * Builders are immutable: each method returns a new builder, leaving the one it was called on as it was. The parameter
+   * definitions added so far are shared between a builder and the ones derived from it instead of being copied, so adding n
+   * parameters allocates O(n) instead of O(n²).
    */
   public static class Builder<T> {
 
     private String namespace;
     private String identifier;
-    private final ComponentBuildingDefinition<T> definition = new ComponentBuildingDefinition<>();
+    private TypeDefinition<T> typeDefinition;
+    private boolean scope;
+    private boolean prototype;
+    private boolean named;
+    private boolean alwaysEnabled;
+    private Class<? extends ObjectFactory<T>> objectFactoryType;
+    private String registrationName;
+    private ParameterNode<AttributeDefinition> lastConstructorParameter;
+    private ParameterNode<SetterAttributeDefinition> lastSetterParameter;
+
+    // These are not carried over by copy(), so they only apply when set by the last call before build().
+    private Optional<TypeConverter> typeConverter = empty();
+    private Optional<TypeConverter> keyTypeConverter = empty();
+    private String ignoredConfigurationParameter;
+
+    private ComponentBuildingDefinition<T> built;
 
     /**
      * Adds a new constructor parameter to be used during the object instantiation.
@@ -185,7 +273,7 @@ public class ComponentBuildingDefinition<T> {
      */
     public Builder<T> withConstructorParameterDefinition(AttributeDefinition attributeDefinition) {
       Builder<T> next = copy();
-      next.definition.constructorAttributeDefinition.add(attributeDefinition);
+      next.lastConstructorParameter = new ParameterNode<>(lastConstructorParameter, attributeDefinition);
       return next;
     }
 
@@ -198,7 +286,8 @@ public class ComponentBuildingDefinition<T> {
      */
     public Builder<T> withSetterParameterDefinition(String fieldName, AttributeDefinition attributeDefinition) {
       Builder<T> next = copy();
-      next.definition.setterParameterDefinitions.add(new SetterAttributeDefinition(fieldName, attributeDefinition));
+      next.lastSetterParameter =
+          new ParameterNode<>(lastSetterParameter, new SetterAttributeDefinition(fieldName, attributeDefinition));
       return next;
     }
 
@@ -238,7 +327,7 @@ public class ComponentBuildingDefinition<T> {
      */
     public Builder<T> withTypeDefinition(TypeDefinition<T> typeDefinition) {
       Builder<T> next = copy();
-      next.definition.typeDefinition = typeDefinition;
+      next.typeDefinition = typeDefinition;
       return next;
     }
 
@@ -253,7 +342,7 @@ public class ComponentBuildingDefinition<T> {
      */
     public Builder<T> withTypeConverter(TypeConverter typeConverter) {
       Builder<T> next = copy();
-      next.definition.typeConverter = of(typeConverter);
+      next.typeConverter = of(typeConverter);
       return next;
     }
 
@@ -268,7 +357,7 @@ public class ComponentBuildingDefinition<T> {
      */
     public Builder<T> withKeyTypeConverter(TypeConverter typeConverter) {
       Builder<T> next = copy();
-      next.definition.keyTypeConverter = of(typeConverter);
+      next.keyTypeConverter = of(typeConverter);
       return next;
     }
 
@@ -283,7 +372,7 @@ public class ComponentBuildingDefinition<T> {
     @Deprecated
     public Builder<T> alwaysEnabled(boolean value) {
       Builder<T> next = copy();
-      next.definition.alwaysEnabled = value;
+      next.alwaysEnabled = value;
       return next;
     }
 
@@ -296,7 +385,7 @@ public class ComponentBuildingDefinition<T> {
      */
     public Builder<T> withRegistrationName(String name) {
       Builder<T> next = copy();
-      next.definition.registrationName = name;
+      next.registrationName = name;
       return next;
     }
 
@@ -307,7 +396,7 @@ public class ComponentBuildingDefinition<T> {
      */
     public Builder<T> asScope() {
       Builder<T> next = copy();
-      next.definition.scope = true;
+      next.scope = true;
       return next;
     }
 
@@ -318,7 +407,7 @@ public class ComponentBuildingDefinition<T> {
      */
     public Builder<T> asNamed() {
       Builder<T> next = copy();
-      next.definition.named = true;
+      next.named = true;
       return next;
     }
 
@@ -339,7 +428,7 @@ public class ComponentBuildingDefinition<T> {
                     objectFactoryType.getCanonicalName())));
       }
       Builder<T> next = copy();
-      next.definition.objectFactoryType = objectFactoryType;
+      next.objectFactoryType = objectFactoryType;
       return next;
     }
 
@@ -353,12 +442,13 @@ public class ComponentBuildingDefinition<T> {
      */
     public Builder<T> withIgnoredConfigurationParameter(String parameterName) {
       Builder<T> next = copy();
-      next.definition.ignoredConfigurationParameters.add(parameterName);
+      next.ignoredConfigurationParameter = parameterName;
       return next;
     }
 
     /**
-     * Makes a deep copy of the builder so it's current configuration can be reused.
+     * Makes a copy of the builder so it's current configuration can be reused. The parameter definitions are shared with the
+     * copy, since those are never modified once added.
      *
      * This is called automatically on each method to make sure users don't accidentally modify the original when intending to
      * refactor common cases.
@@ -367,22 +457,17 @@ public class ComponentBuildingDefinition<T> {
      */
     private Builder<T> copy() {
       Builder<T> builder = new Builder<>();
-      builder.definition.typeDefinition = this.definition.typeDefinition;
-      builder.definition.setterParameterDefinitions = new ArrayList<>(this.definition.setterParameterDefinitions);
-      builder.definition.constructorAttributeDefinition = new ArrayList<>(this.definition.constructorAttributeDefinition);
-      builder.identifier = this.identifier;
       builder.namespace = this.namespace;
-      builder.definition.prototype = this.definition.prototype;
-      builder.definition.scope = this.definition.scope;
-      builder.definition.typeDefinition = this.definition.typeDefinition;
-      builder.definition.objectFactoryType = this.definition.objectFactoryType;
-      builder.definition.alwaysEnabled = this.definition.alwaysEnabled;
-      builder.definition.registrationName = this.definition.registrationName;
-
-      if (definition.isNamed()) {
-        builder.definition.named = true;
-      }
-
+      builder.identifier = this.identifier;
+      builder.typeDefinition = this.typeDefinition;
+      builder.scope = this.scope;
+      builder.prototype = this.prototype;
+      builder.named = this.named;
+      builder.alwaysEnabled = this.alwaysEnabled;
+      builder.objectFactoryType = this.objectFactoryType;
+      builder.registrationName = this.registrationName;
+      builder.lastConstructorParameter = this.lastConstructorParameter;
+      builder.lastSetterParameter = this.lastSetterParameter;
       return builder;
     }
 
@@ -394,24 +479,28 @@ public class ComponentBuildingDefinition<T> {
      * @return a fully configured {@link ComponentBuildingDefinition}
      */
     public ComponentBuildingDefinition<T> build() {
-      checkState(definition.typeDefinition != null, "You must specify the type");
+      if (built != null) {
+        return built;
+      }
+
+      checkState(typeDefinition != null, "You must specify the type");
       checkState(identifier != null, "You must specify the identifier");
       checkState(namespace != null, "You must specify the namespace");
       Optional<Class> componentType = getType();
-      checkState(!definition.typeConverter.isPresent()
-          || (definition.typeConverter.isPresent() && componentType.isPresent()),
+      checkState(!typeConverter.isPresent()
+          || (typeConverter.isPresent() && componentType.isPresent()),
                  TYPE_CONVERTER_AND_UNKNOWN_TYPE_MESSAGE);
-      checkState(!definition.typeConverter.isPresent()
-          || (definition.typeConverter.isPresent()
+      checkState(!typeConverter.isPresent()
+          || (typeConverter.isPresent()
               && (DslSimpleType.isSimpleType(componentType.get()) || isMapType(componentType.get()))),
                  format(TYPE_CONVERTER_AND_NO_SIMPLE_TYPE_MESSAGE_TEMPLATE,
                         componentType.orElse(Object.class).getName()));
-      checkState(!definition.keyTypeConverter.isPresent()
-          || (definition.keyTypeConverter.isPresent() && componentType.isPresent() && isMapType(componentType.get())),
+      checkState(!keyTypeConverter.isPresent()
+          || (keyTypeConverter.isPresent() && componentType.isPresent() && isMapType(componentType.get())),
                  KEY_TYPE_CONVERTER_AND_NO_MAP_TYPE);
-      definition.componentIdentifier =
-          builder().name(identifier).namespace(namespace).build();
-      return definition;
+
+      built = new ComponentBuildingDefinition<>(this);
+      return built;
     }
 
     private boolean isMapType(Class componentType) {
@@ -424,13 +513,13 @@ public class ComponentBuildingDefinition<T> {
     // not define entities by them self.
     public Builder<T> asPrototype() {
       Builder<T> next = copy();
-      next.definition.prototype = true;
+      next.prototype = true;
       return next;
     }
 
     private Optional<Class> getType() {
       final AtomicReference<Class> typeReference = new AtomicReference<>();
-      definition.typeDefinition.visit(new TypeDefinitionVisitor() {
+      typeDefinition.visit(new TypeDefinitionVisitor() {
 
         @Override
         public void onType(Class<?> type) {
@@ -451,4 +540,28 @@ public class ComponentBuildingDefinition<T> {
       return ofNullable(typeReference.get());
     }
   }
+
+  /**
+   * A parameter definition added to a {@link Builder}, linked to the ones added before it.
+   */
+  private static final class ParameterNode<E> {
+
+    private final ParameterNode<E> previous;
+    private final E value;
+    private final int size;
+
+    private ParameterNode(ParameterNode<E> previous, E value) {
+      this.previous = previous;
+      this.value = value;
+      this.size = previous == null ? 1 : previous.size + 1;
+    }
+
+    private static <E> E[] toArray(ParameterNode<E> last, IntFunction<E[]> arrayFactory) {
+      E[] values = arrayFactory.apply(last == null ? 0 : last.size);
+      for (ParameterNode<E> node = last; node != null; node = node.previous) {
+        values[node.size - 1] = node.value;
+      }
+      return values;
+    }
+  }
 }
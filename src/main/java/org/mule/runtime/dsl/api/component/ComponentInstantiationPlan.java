@@ -0,0 +1,365 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.component;
+
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import static java.lang.String.format;
+import static java.lang.invoke.MethodHandles.publicLookup;
+import static java.lang.invoke.MethodType.genericMethodType;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+import static java.util.Arrays.asList;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import org.mule.api.annotation.NoExtend;
+import org.mule.api.annotation.NoInstantiate;
+import org.mule.runtime.api.exception.MuleRuntimeException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.google.common.primitives.Primitives;
+
+/**
+ * Plan to create the objects defined by a {@link ComponentBuildingDefinition} for a concrete type, with the constructor and
+ * setters to use already resolved as {@link MethodHandle}s, so that creating many instances doesn't need to visit the definition
+ * nor look up those through reflection each time.
+ * <p>
+ * When the definition has an {@link ComponentBuildingDefinition#getObjectFactoryType() object factory}, the plan instantiates the
+ * factory and sets the parameters on it, and {@link Instantiator#create(Object)} returns the object created by the factory.
+ * <p>
+ * The values of the parameters are provided by a {@link ParameterResolver} for each parameter, which are obtained once by
+ * {@link #bind(Function)} from the {@link AttributeDefinition} of each parameter.
+ * <p>
+ * The setter of each parameter is the public method named {@code set} followed by the
+ * {@link SetterAttributeDefinition#getAttributeName() attribute name} with its first letter in upper case, with one parameter.
+ * Setters following other naming conventions are not found. The {@link ComponentBuildingDefinition#getTypeDefinition() type
+ * definition} is not taken into account, the instantiated type is the one given to {@link #of(ComponentBuildingDefinition, Class)}
+ * or the object factory of the definition.
+ * <p>
+ * Plans are cached by definition and instantiated type, and are released along with the classloader of that type.
+ *
+ * @param <T> the type of the objects created with this plan.
+ *
+ * @since 1.10
+ */
+@NoExtend
+@NoInstantiate
+public final class ComponentInstantiationPlan<T> {
+
+  private static final ClassValue<Cache<ComponentBuildingDefinition<?>, ComponentInstantiationPlan<?>>> PLANS =
+      new ClassValue<Cache<ComponentBuildingDefinition<?>, ComponentInstantiationPlan<?>>>() {
+
+        @Override
+        protected Cache<ComponentBuildingDefinition<?>, ComponentInstantiationPlan<?>> computeValue(Class<?> type) {
+          return newBuilder().weakKeys().build();
+        }
+      };
+
+  private final Class<?> instantiatedType;
+  private final boolean objectFactory;
+  private final AttributeDefinition[] constructorParameters;
+  private final Invoker constructor;
+  private final AttributeDefinition[] setterParameters;
+  private final Invoker[] setters;
+
+  /**
+   * @param definition the definition of the objects to create.
+   * @param type       the concrete type of the objects to create. Only used if the definition has no
+   *                   {@link ComponentBuildingDefinition#getObjectFactoryType() object factory}.
+   * @return the plan to create objects of the given type from the given definition.
+   * @throws MuleRuntimeException if a constructor or setter required by the definition is not found in the instantiated type.
+   */
+  public static <T> ComponentInstantiationPlan<T> of(ComponentBuildingDefinition<T> definition, Class<? extends T> type) {
+    checkArgument(definition != null, "definition cannot be null");
+    Class<?> instantiatedType = definition.getObjectFactoryType() != null ? definition.getObjectFactoryType() : type;
+    checkArgument(instantiatedType != null, "type cannot be null if the definition has no object factory");
+
+    return (ComponentInstantiationPlan<T>) PLANS.get(instantiatedType)
+        .get(definition, d -> new ComponentInstantiationPlan<>(definition, instantiatedType));
+  }
+
+  private ComponentInstantiationPlan(ComponentBuildingDefinition<T> definition, Class<?> instantiatedType) {
+    this.instantiatedType = instantiatedType;
+    this.objectFactory = definition.getObjectFactoryType() != null;
+
+    List<AttributeDefinition> constructorAttributes = definition.getConstructorAttributeDefinition();
+    this.constructorParameters = constructorAttributes.toArray(new AttributeDefinition[constructorAttributes.size()]);
+    this.constructor = resolveConstructor(instantiatedType, constructorParameters.length);
+
+    List<SetterAttributeDefinition> setterAttributes = definition.getSetterParameterDefinitions();
+    this.setterParameters = new AttributeDefinition[setterAttributes.size()];
+    this.setters = new Invoker[setterAttributes.size()];
+    for (int i = 0; i < setterAttributes.size(); ++i) {
+      setterParameters[i] = setterAttributes.get(i).getAttributeDefinition();
+      setters[i] = resolveSetter(instantiatedType, setterAttributes.get(i).getAttributeName());
+    }
+  }
+
+  /**
+   * @return the type that is instantiated by this plan. That is the object factory if the definition has one.
+   */
+  public Class<?> getInstantiatedType() {
+    return instantiatedType;
+  }
+
+  /**
+   * Resolves how to obtain the value of each parameter of the definition of this plan.
+   *
+   * @param resolverFactory called once for each parameter with its {@link AttributeDefinition}, to provide how to resolve the
+   *                        value of that parameter.
+   * @param <C>             the type of the context from which the values of the parameters are resolved, i.e.: a component
+   *                        of the application.
+   * @return an {@link Instantiator} to create objects with this plan.
+   */
+  public <C> Instantiator<T, C> bind(Function<AttributeDefinition, ParameterResolver<C>> resolverFactory) {
+    ParameterResolver<C>[] constructorResolvers = new ParameterResolver[constructorParameters.length];
+    for (int i = 0; i < constructorParameters.length; ++i) {
+      constructorResolvers[i] = resolverFactory.apply(constructorParameters[i]);
+    }
+    ParameterResolver<C>[] setterResolvers = new ParameterResolver[setterParameters.length];
+    for (int i = 0; i < setterParameters.length; ++i) {
+      setterResolvers[i] = resolverFactory.apply(setterParameters[i]);
+    }
+    return new Instantiator<>(this, constructorResolvers, setterResolvers);
+  }
+
+  private static Invoker resolveConstructor(Class<?> type, int parametersCount) {
+    List<Executable> candidates = new ArrayList<>();
+    for (Constructor<?> candidate : type.getConstructors()) {
+      if (candidate.getParameterCount() == parametersCount) {
+        candidates.add(candidate);
+      }
+    }
+    if (candidates.isEmpty()) {
+      throw new MuleRuntimeException(createStaticMessage(format("No public constructor with %d parameters found in %s",
+                                                                parametersCount, type.getName())));
+    }
+    return new Invoker(type, candidates);
+  }
+
+  private static Invoker resolveSetter(Class<?> type, String attributeName) {
+    String setterName = "set" + Character.toUpperCase(attributeName.charAt(0)) + attributeName.substring(1);
+    List<Executable> candidates = new ArrayList<>();
+    for (Method candidate : type.getMethods()) {
+      if (candidate.getName().equals(setterName) && candidate.getParameterCount() == 1 && !isStatic(candidate.getModifiers())) {
+        candidates.add(candidate);
+      }
+    }
+    if (candidates.isEmpty()) {
+      throw new MuleRuntimeException(createStaticMessage(format("No public setter found for attribute '%s' in %s",
+                                                                attributeName, type.getName())));
+    }
+    return new Invoker(type, candidates);
+  }
+
+  /**
+   * Resolves the value of a parameter from a context, i.e.: the component being created.
+   *
+   * @param <C> the type of the context.
+   */
+  @FunctionalInterface
+  public interface ParameterResolver<C> {
+
+    /**
+     * @param context the context from which to resolve the value.
+     * @return the value of the parameter. {@code null} values are not set through setters.
+     * @throws Exception if the value could not be resolved.
+     */
+    Object resolve(C context) throws Exception;
+  }
+
+  /**
+   * Creates objects with a {@link ComponentInstantiationPlan}, with the {@link ParameterResolver}s bound to each parameter.
+   * <p>
+   * Instances are thread-safe as long as the bound {@link ParameterResolver}s are.
+   *
+   * @param <T> the type of the objects created.
+   * @param <C> the type of the context from which the values of the parameters are resolved.
+   */
+  @NoExtend
+  @NoInstantiate
+  public static final class Instantiator<T, C> {
+
+    private final ComponentInstantiationPlan<T> plan;
+    private final ParameterResolver<C>[] constructorResolvers;
+    private final ParameterResolver<C>[] setterResolvers;
+
+    private Instantiator(ComponentInstantiationPlan<T> plan, ParameterResolver<C>[] constructorResolvers,
+                         ParameterResolver<C>[] setterResolvers) {
+      this.plan = plan;
+      this.constructorResolvers = constructorResolvers;
+      this.setterResolvers = setterResolvers;
+    }
+
+    /**
+     * Creates an instance of the {@link ComponentInstantiationPlan#getInstantiatedType() instantiated type} and sets its
+     * parameters, without calling {@link ObjectFactory#getObject()} if it is an object factory.
+     *
+     * @param context the context from which to resolve the values of the parameters.
+     * @return the created instance.
+     * @throws MuleRuntimeException if the instance could not be created or a parameter could not be resolved or set.
+     */
+    public Object instantiate(C context) {
+      Object[] arguments = new Object[constructorResolvers.length];
+      for (int i = 0; i < constructorResolvers.length; ++i) {
+        arguments[i] = resolve(constructorResolvers[i], context);
+      }
+      Object instance = plan.constructor.construct(arguments);
+
+      for (int i = 0; i < setterResolvers.length; ++i) {
+        Object value = resolve(setterResolvers[i], context);
+        if (value != null) {
+          plan.setters[i].set(instance, value);
+        }
+      }
+      return instance;
+    }
+
+    /**
+     * Same as {@link #instantiate(Object)}, but returns the object created by the object factory if there is one.
+     *
+     * @param context the context from which to resolve the values of the parameters.
+     * @return the created object.
+     * @throws MuleRuntimeException if the object could not be created or a parameter could not be resolved or set.
+     */
+    public T create(C context) {
+      Object instance = instantiate(context);
+      if (!plan.objectFactory) {
+        return (T) instance;
+      }
+
+      try {
+        return ((ObjectFactory<T>) instance).getObject();
+      } catch (Exception e) {
+        throw new MuleRuntimeException(createStaticMessage(format("Could not get the object from the factory %s",
+                                                                  plan.instantiatedType.getName())),
+                                       e);
+      }
+    }
+
+    private Object resolve(ParameterResolver<C> resolver, C context) {
+      try {
+        return resolver.resolve(context);
+      } catch (Exception e) {
+        throw new MuleRuntimeException(createStaticMessage(format("Could not resolve a parameter of %s",
+                                                                  plan.instantiatedType.getName())),
+                                       e);
+      }
+    }
+  }
+
+  /**
+   * Invokes a constructor or setter. If there is more than one candidate with the same amount of parameters, the first one that
+   * accepts the types of the arguments is invoked.
+   */
+  private static final class Invoker {
+
+    private final Class<?> type;
+    private final Executable[] candidates;
+    // (Object[]) -> Object for constructors, (Object, Object) -> void for setters
+    private final MethodHandle[] handles;
+
+    private Invoker(Class<?> type, List<Executable> candidates) {
+      this.type = type;
+      this.candidates = candidates.toArray(new Executable[candidates.size()]);
+      this.handles = new MethodHandle[candidates.size()];
+      for (int i = 0; i < handles.length; ++i) {
+        handles[i] = toHandle(this.candidates[i]);
+      }
+    }
+
+    private MethodHandle toHandle(Executable candidate) {
+      try {
+        if (candidate instanceof Constructor) {
+          int parametersCount = candidate.getParameterCount();
+          return publicLookup().unreflectConstructor((Constructor<?>) candidate)
+              .asType(genericMethodType(parametersCount))
+              .asSpreader(Object[].class, parametersCount);
+        } else {
+          return publicLookup().unreflect((Method) candidate)
+              .asType(methodType(void.class, Object.class, Object.class));
+        }
+      } catch (IllegalAccessException e) {
+        throw new MuleRuntimeException(createStaticMessage(format("Could not access %s of %s", candidate, type.getName())), e);
+      }
+    }
+
+    private Object construct(Object[] arguments) {
+      int selected = select(arguments);
+      try {
+        return (Object) handles[selected].invokeExact(arguments);
+      } catch (Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw invocationFailed(selected, e);
+      }
+    }
+
+    private void set(Object target, Object value) {
+      int selected = handles.length == 1 ? 0 : select(value);
+      try {
+        handles[selected].invokeExact(target, value);
+      } catch (Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw invocationFailed(selected, e);
+      }
+    }
+
+    private MuleRuntimeException invocationFailed(int selected, Throwable cause) {
+      return new MuleRuntimeException(createStaticMessage(format("Could not invoke %s of %s", candidates[selected],
+                                                                 type.getName())),
+                                      cause);
+    }
+
+    private int select(Object[] arguments) {
+      if (candidates.length == 1) {
+        return 0;
+      }
+      for (int i = 0; i < candidates.length; ++i) {
+        if (accepts(candidates[i].getParameterTypes(), arguments)) {
+          return i;
+        }
+      }
+      throw new MuleRuntimeException(createStaticMessage(format("None of %s of %s accepts the given arguments",
+                                                                asList(candidates), type.getName())));
+    }
+
+    private int select(Object argument) {
+      for (int i = 0; i < candidates.length; ++i) {
+        if (accepts(candidates[i].getParameterTypes()[0], argument)) {
+          return i;
+        }
+      }
+      throw new MuleRuntimeException(createStaticMessage(format("None of %s of %s accepts the given argument",
+                                                                asList(candidates), type.getName())));
+    }
+
+    private static boolean accepts(Class<?>[] parameterTypes, Object[] arguments) {
+      for (int i = 0; i < parameterTypes.length; ++i) {
+        if (!accepts(parameterTypes[i], arguments[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static boolean accepts(Class<?> parameterType, Object argument) {
+      return argument == null ? !parameterType.isPrimitive() : Primitives.wrap(parameterType).isInstance(argument);
+    }
+  }
+}
@@ -6,14 +6,21 @@
  */
 package org.mule.runtime.dsl.api.component;
 
+import static org.mule.runtime.dsl.api.component.CommonTypeConverters.stringToEnumConverter;
+
+import static java.util.Optional.empty;
+
 import static com.google.common.collect.ImmutableSet.of;
 
+import org.mule.runtime.dsl.internal.component.SimpleTypeConverters;
+
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -30,12 +37,45 @@ public class DslSimpleType {
          char.class, Float.class, float.class, Double.class, BigDecimal.class, BigInteger.class, double.class, String.class,
          Date.class, LocalDate.class, LocalDateTime.class, Calendar.class);
 
+  // the converter of each simple type, resolved once per type instead of looking up the set and checking if it is an enum
+  private static final ClassValue<Optional<TypeConverter<String, ?>>> simpleTypeConverters =
+      new ClassValue<Optional<TypeConverter<String, ?>>>() {
+
+        @Override
+        protected Optional<TypeConverter<String, ?>> computeValue(Class<?> type) {
+          if (type.isEnum()) {
+            return Optional.of(stringToEnumConverter((Class<? extends Enum>) type));
+          }
+          if (simpleTypes.contains(type)) {
+            return Optional.of(SimpleTypeConverters.forType(type));
+          }
+          return empty();
+        }
+      };
+
   /**
    * @param type the value type.
    * @return true if the type is a primitive type, a primitive type wrapper class, string or an enum.
    */
   public static boolean isSimpleType(Class<?> type) {
-    return simpleTypes.contains(type) || type.isEnum();
+    return simpleTypeConverters.get(type).isPresent();
+  }
+
+  /**
+   * Provides the converter from the {@link String} value in a configuration to the given simple type. Converters are shared and
+   * thread-safe.
+   * <p>
+   * Dates are expected in ISO-8601 format: {@code yyyy-MM-dd} for {@link LocalDate}, {@code yyyy-MM-ddTHH:mm[:ss[.SSS]]} for
+   * {@link LocalDateTime}, and {@code yyyy-MM-dd[THH:mm[:ss[.SSS]]][offset]} for {@link Date} and {@link Calendar}, in the
+   * default time zone if no offset is given. Enums are converted by the exact name of their constants.
+   *
+   * @param type the value type.
+   * @return the converter to the given type, or {@link Optional#empty()} if it is not a {@link #isSimpleType(Class) simple type}.
+   *
+   * @since 1.10
+   */
+  public static <T> Optional<TypeConverter<String, T>> getSimpleTypeConverter(Class<T> type) {
+    return (Optional) simpleTypeConverters.get(type);
   }
 
   private DslSimpleType() {}
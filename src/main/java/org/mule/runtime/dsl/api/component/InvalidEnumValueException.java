@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.component;
+
+/**
+ * Thrown by the enum converters of {@link CommonTypeConverters} when a value doesn't match any constant of the enum.
+ * <p>
+ * Invalid values are expected input of the conversion, so this exception has no stack trace.
+ *
+ * @since 1.10
+ */
+public final class InvalidEnumValueException extends IllegalArgumentException {
+
+  private static final long serialVersionUID = -6254186380441829410L;
+
+  private final Class<? extends Enum> enumType;
+  private final String value;
+
+  /**
+   * @param enumType the enum type the value was converted to.
+   * @param value    the invalid value.
+   */
+  public InvalidEnumValueException(Class<? extends Enum> enumType, String value) {
+    super("No enum constant " + enumType.getCanonicalName() + "." + value);
+    this.enumType = enumType;
+    this.value = value;
+  }
+
+  /**
+   * @return the enum type the value was converted to.
+   */
+  public Class<? extends Enum> getEnumType() {
+    return enumType;
+  }
+
+  /**
+   * @return the invalid value.
+   */
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.component.config;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import static java.util.Collections.singletonList;
+import static java.util.Optional.ofNullable;
+
+import org.mule.api.annotation.NoExtend;
+import org.mule.api.annotation.NoInstantiate;
+import org.mule.runtime.api.component.ComponentIdentifier;
+import org.mule.runtime.dsl.api.component.ComponentBuildingDefinition;
+import org.mule.runtime.dsl.api.component.ComponentBuildingDefinitionProvider;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Immutable index of the {@link ComponentBuildingDefinition}s of a set of {@link ComponentBuildingDefinitionProvider}s, so that
+ * consumers don't need to build their own lookup structures over
+ * {@link ComponentBuildingDefinitionProvider#getComponentBuildingDefinitions()}.
+ * <p>
+ * Definitions are indexed by their {@link ComponentBuildingDefinition#getComponentIdentifier() component identifier} and by its
+ * namespace. When more than one definition has the same component identifier, the last one wins, same as when registering the
+ * definitions one by one, and all of them are reported by {@link #getDuplicates()}.
+ * <p>
+ * Each call to {@link #of(Collection)} or {@link #fromProviders(Collection)} builds a new registry. This module does not cache
+ * registries, nor reuse them across artifacts, since the definitions of a provider may depend on the artifact it is used for.
+ * Callers must keep the registry they build and reuse it for as long as they keep its providers, instead of building it again
+ * for each lookup.
+ *
+ * @since 1.10
+ */
+@NoExtend
+@NoInstantiate
+public final class ComponentBuildingDefinitionRegistry {
+
+  private final List<ComponentBuildingDefinition> definitions;
+  private final Map<ComponentIdentifier, ComponentBuildingDefinition> byIdentifier;
+  private final Map<String, List<ComponentBuildingDefinition>> byNamespace;
+  private final Map<ComponentIdentifier, List<ComponentBuildingDefinition>> duplicates;
+
+  /**
+   * @param definitions the definitions to index.
+   * @return a registry with the given definitions.
+   */
+  public static ComponentBuildingDefinitionRegistry of(Collection<ComponentBuildingDefinition> definitions) {
+    checkArgument(definitions != null, "definitions cannot be null");
+    return new ComponentBuildingDefinitionRegistry(definitions);
+  }
+
+  /**
+   * @param providers the providers of the definitions to index. They must have been
+   *                  {@link ComponentBuildingDefinitionProvider#init() initialized} already.
+   * @return a registry with the definitions of the given providers, in the order of the providers.
+   */
+  public static ComponentBuildingDefinitionRegistry fromProviders(Collection<? extends ComponentBuildingDefinitionProvider> providers) {
+    checkArgument(providers != null, "providers cannot be null");
+    List<ComponentBuildingDefinition> definitions = new ArrayList<>();
+    for (ComponentBuildingDefinitionProvider provider : providers) {
+      definitions.addAll(provider.getComponentBuildingDefinitions());
+    }
+    return new ComponentBuildingDefinitionRegistry(definitions);
+  }
+
+  private ComponentBuildingDefinitionRegistry(Collection<ComponentBuildingDefinition> definitions) {
+    Map<ComponentIdentifier, ComponentBuildingDefinition> byIdentifier = new LinkedHashMap<>();
+    Map<String, Map<ComponentIdentifier, ComponentBuildingDefinition>> byNamespace = new LinkedHashMap<>();
+    Map<ComponentIdentifier, List<ComponentBuildingDefinition>> duplicates = new LinkedHashMap<>();
+
+    for (ComponentBuildingDefinition definition : definitions) {
+      ComponentIdentifier identifier = definition.getComponentIdentifier();
+      ComponentBuildingDefinition previous = byIdentifier.put(identifier, definition);
+      if (previous != null) {
+        // the previous definition is only added on the first collision for an identifier
+        duplicates.computeIfAbsent(identifier, k -> new ArrayList<>(singletonList(previous))).add(definition);
+      }
+      byNamespace.computeIfAbsent(identifier.getNamespace(), k -> new LinkedHashMap<>()).put(identifier, definition);
+    }
+
+    this.definitions = ImmutableList.copyOf(byIdentifier.values());
+    this.byIdentifier = ImmutableMap.copyOf(byIdentifier);
+
+    ImmutableMap.Builder<String, List<ComponentBuildingDefinition>> byNamespaceBuilder = ImmutableMap.builder();
+    for (Entry<String, Map<ComponentIdentifier, ComponentBuildingDefinition>> entry : byNamespace.entrySet()) {
+      byNamespaceBuilder.put(entry.getKey(), ImmutableList.copyOf(entry.getValue().values()));
+    }
+    this.byNamespace = byNamespaceBuilder.build();
+
+    ImmutableMap.Builder<ComponentIdentifier, List<ComponentBuildingDefinition>> duplicatesBuilder = ImmutableMap.builder();
+    for (Entry<ComponentIdentifier, List<ComponentBuildingDefinition>> entry : duplicates.entrySet()) {
+      duplicatesBuilder.put(entry.getKey(), ImmutableList.copyOf(entry.getValue()));
+    }
+    this.duplicates = duplicatesBuilder.build();
+  }
+
+  /**
+   * @param identifier the identifier of the component.
+   * @return the definition for the given component, if any.
+   */
+  public Optional<ComponentBuildingDefinition> lookup(ComponentIdentifier identifier) {
+    return ofNullable(byIdentifier.get(identifier));
+  }
+
+  /**
+   * @param namespace the prefix of the namespace of the components.
+   * @return the definitions for the components of the given namespace.
+   */
+  public List<ComponentBuildingDefinition> lookupByNamespace(String namespace) {
+    return byNamespace.getOrDefault(namespace, ImmutableList.of());
+  }
+
+  /**
+   * @return the definitions in this registry, one per component identifier.
+   */
+  public List<ComponentBuildingDefinition> getDefinitions() {
+    return definitions;
+  }
+
+  /**
+   * @return the definitions that have the same component identifier as another one, in the order they were given, by component
+   *         identifier. Empty if there are no duplicates.
+   */
+  public Map<ComponentIdentifier, List<ComponentBuildingDefinition>> getDuplicates() {
+    return duplicates;
+  }
+
+  /**
+   * @return the amount of component identifiers with a definition in this registry.
+   */
+  public int size() {
+    return byIdentifier.size();
+  }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.component.config;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.dsl.api.component.config.DefaultComponentLocation.LOCATION_PART_SEPARATOR;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Optional.ofNullable;
+
+import org.mule.api.annotation.NoExtend;
+import org.mule.runtime.api.lifecycle.Disposable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the {@link DefaultComponentLocation}s of the components of an artifact, to go from a location string such as
+ * {@code myFlow/processors/3/route/0} back to its location without walking every component.
+ * <p>
+ * Locations are indexed by their {@link DefaultComponentLocation#getLocation() location string}, by their
+ * {@link DefaultComponentLocation#getRootContainerName() root container name} and in a trie over the parts of the location
+ * string, so that all the locations under a given one (i.e.: all the locations in a flow) may be listed.
+ * <p>
+ * A registry is meant to live as long as the artifact its locations belong to, and to be {@link #dispose() disposed} when that
+ * artifact is undeployed.
+ * <p>
+ * Instances are thread-safe. Lookups by location string do not block.
+ *
+ * @since 1.10
+ */
+@NoExtend
+public final class ComponentLocationRegistry implements Disposable {
+
+  private final Map<String, DefaultComponentLocation> byLocation = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, DefaultComponentLocation>> byRootContainerName = new HashMap<>();
+  private final TrieNode root = new TrieNode(null);
+
+  /**
+   * Adds a location to this registry. A location previously registered with the same location string is replaced.
+   *
+   * @param location the location to register.
+   */
+  public synchronized void register(DefaultComponentLocation location) {
+    checkArgument(location != null, "location cannot be null");
+
+    String locationString = location.getLocation();
+    DefaultComponentLocation previous = byLocation.put(locationString, location);
+    if (previous != null) {
+      removeFromRootContainer(previous);
+    }
+    byRootContainerName.computeIfAbsent(location.getRootContainerName(), k -> new LinkedHashMap<>())
+        .put(locationString, location);
+
+    TrieNode node = root;
+    int segmentStart = 0;
+    int separatorIndex;
+    while ((separatorIndex = locationString.indexOf(LOCATION_PART_SEPARATOR, segmentStart)) >= 0) {
+      node = node.getOrAddChild(locationString.substring(segmentStart, separatorIndex));
+      segmentStart = separatorIndex + LOCATION_PART_SEPARATOR.length();
+    }
+    node.getOrAddChild(locationString.substring(segmentStart)).location = location;
+  }
+
+  /**
+   * @param location the location string of the location to look up, as returned by
+   *                 {@link DefaultComponentLocation#getLocation()}.
+   * @return the registered location with the given location string, if any.
+   */
+  public Optional<DefaultComponentLocation> lookup(String location) {
+    return location == null ? Optional.empty() : ofNullable(byLocation.get(location));
+  }
+
+  /**
+   * @param rootContainerName the name of a root container, i.e.: a flow.
+   * @return the registered locations with the given root container, in the order they were registered.
+   */
+  public synchronized List<DefaultComponentLocation> lookupByRootContainerName(String rootContainerName) {
+    Map<String, DefaultComponentLocation> locations = byRootContainerName.get(rootContainerName);
+    return locations == null ? emptyList() : unmodifiableList(new ArrayList<>(locations.values()));
+  }
+
+  /**
+   * Lists the registered locations whose location string starts with the given parts. For instance, for
+   * {@code myFlow/processors/3} that location is listed, if registered, along with {@code myFlow/processors/3/route/0} and any
+   * other location under it, but not {@code myFlow/processors/30}.
+   *
+   * @param locationPrefix the location string of the location to list the locations under.
+   * @return the registered locations under {@code locationPrefix}, each of them listed before the ones under it.
+   */
+  public synchronized List<DefaultComponentLocation> lookupUnder(String locationPrefix) {
+    checkArgument(locationPrefix != null, "locationPrefix cannot be null");
+
+    TrieNode node = root;
+    int segmentStart = 0;
+    int separatorIndex;
+    while (node != null && (separatorIndex = locationPrefix.indexOf(LOCATION_PART_SEPARATOR, segmentStart)) >= 0) {
+      node = node.getChild(locationPrefix.substring(segmentStart, separatorIndex));
+      segmentStart = separatorIndex + LOCATION_PART_SEPARATOR.length();
+    }
+    if (node != null) {
+      node = node.getChild(locationPrefix.substring(segmentStart));
+    }
+    if (node == null) {
+      return emptyList();
+    }
+
+    List<DefaultComponentLocation> locations = new ArrayList<>();
+    node.collect(locations);
+    return unmodifiableList(locations);
+  }
+
+  /**
+   * @return the amount of registered locations.
+   */
+  public int size() {
+    return byLocation.size();
+  }
+
+  /**
+   * Releases all the registered locations.
+   */
+  @Override
+  public synchronized void dispose() {
+    byLocation.clear();
+    byRootContainerName.clear();
+    root.clear();
+  }
+
+  private void removeFromRootContainer(DefaultComponentLocation location) {
+    Map<String, DefaultComponentLocation> locations = byRootContainerName.get(location.getRootContainerName());
+    if (locations != null) {
+      locations.remove(location.getLocation());
+      if (locations.isEmpty()) {
+        byRootContainerName.remove(location.getRootContainerName());
+      }
+    }
+  }
+
+  /**
+   * A node of the trie over the parts of the location strings.
+   * <p>
+   * Most nodes have none or a few children, so these are kept in a small array that is scanned linearly and only replaced by a
+   * map for nodes with many children, such as the {@code processors} of a long flow.
+   */
+  private static final class TrieNode {
+
+    private static final int MAX_ARRAY_CHILDREN = 8;
+
+    private final String segment;
+    private DefaultComponentLocation location;
+
+    private TrieNode[] children;
+    private int childrenCount;
+    private Map<String, TrieNode> childrenBySegment;
+
+    private TrieNode(String segment) {
+      this.segment = segment;
+    }
+
+    private TrieNode getChild(String segment) {
+      if (childrenBySegment != null) {
+        return childrenBySegment.get(segment);
+      }
+      for (int i = 0; i < childrenCount; ++i) {
+        if (children[i].segment.equals(segment)) {
+          return children[i];
+        }
+      }
+      return null;
+    }
+
+    private TrieNode getOrAddChild(String segment) {
+      TrieNode child = getChild(segment);
+      if (child != null) {
+        return child;
+      }
+
+      child = new TrieNode(segment);
+      if (childrenBySegment != null) {
+        childrenBySegment.put(segment, child);
+      } else if (childrenCount < MAX_ARRAY_CHILDREN) {
+        if (children == null) {
+          children = new TrieNode[1];
+        } else if (childrenCount == children.length) {
+          children = Arrays.copyOf(children, childrenCount * 2);
+        }
+        children[childrenCount++] = child;
+      } else {
+        childrenBySegment = new LinkedHashMap<>();
+        for (int i = 0; i < childrenCount; ++i) {
+          childrenBySegment.put(children[i].segment, children[i]);
+        }
+        childrenBySegment.put(segment, child);
+        children = null;
+        childrenCount = 0;
+      }
+      return child;
+    }
+
+    private void collect(List<DefaultComponentLocation> locations) {
+      // iterative, since locations may be nested deep enough to overflow the stack
+      Deque<TrieNode> pending = new ArrayDeque<>();
+      pending.push(this);
+      while (!pending.isEmpty()) {
+        TrieNode node = pending.pop();
+        if (node.location != null) {
+          locations.add(node.location);
+        }
+        // pushed in reverse, so children are listed in the order they were added
+        TrieNode[] nodeChildren = node.childrenBySegment != null
+            ? node.childrenBySegment.values().toArray(new TrieNode[0])
+            : node.children;
+        int nodeChildrenCount = node.childrenBySegment != null ? nodeChildren.length : node.childrenCount;
+        for (int i = nodeChildrenCount - 1; i >= 0; --i) {
+          pending.push(nodeChildren[i]);
+        }
+      }
+    }
+
+    private void clear() {
+      location = null;
+      children = null;
+      childrenCount = 0;
+      childrenBySegment = null;
+    }
+  }
+}
@@ -14,12 +14,15 @@ import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 import static org.mule.runtime.api.component.TypedComponentIdentifier.ComponentType.UNKNOWN;
 
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
 import org.mule.api.annotation.NoExtend;
 import org.mule.api.annotation.NoInstantiate;
 import org.mule.runtime.api.component.ComponentIdentifier;
 import org.mule.runtime.api.component.TypedComponentIdentifier;
 import org.mule.runtime.api.component.location.ComponentLocation;
 import org.mule.runtime.api.component.location.LocationPart;
+import org.mule.runtime.dsl.internal.component.config.SingleComponentLocationCache;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -34,7 +37,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
 
-import com.google.common.collect.ImmutableList;
+import com.github.benmanes.caffeine.cache.Cache;
 
 /**
  * A component location describes where the component is defined in the configuration of the artifact.
@@ -67,13 +70,25 @@ public class DefaultComponentLocation implements ComponentLocation, Serializable
   private static final long serialVersionUID = 4958158607813720623L;
   public static final String LOCATION_PART_SEPARATOR = "/";
 
+  // Interned locations by location string. Only referenced weakly, so they are released once no longer used elsewhere.
+  private static final Cache<String, DefaultComponentLocation> INTERNED = newBuilder()
+      .weakValues()
+      .build();
+
   private final String name;
+  // Serializers that work on the fields (i.e.: Kryo, Gson) write this list as is, so its type is kept for payloads to be
+  // compatible between versions.
   private final LinkedList<DefaultLocationPart> parts;
   private final transient List<URI> importChain;
   private volatile String location;
 
   private transient String rootContainerName;
   private transient TypedComponentIdentifier componentIdentifier;
+  // the hash of the list of parts, as per List#hashCode, and of the location string, as per String#hashCode, kept so that
+  // appending a part only has to hash that part
+  private transient int partsHash;
+  private transient int locationHash;
+  private transient int hash;
 
   /**
    * Creates a virtual {@link ComponentLocation} for a single element, using the core namespace and using UNKNOWN as type. Only
@@ -99,6 +114,23 @@ public class DefaultComponentLocation implements ComponentLocation, Serializable
    */
   @Deprecated
   public static DefaultComponentLocation fromSingleComponent(String component) {
+    if (component == null) {
+      return createSingleComponent(component);
+    }
+    return SingleComponentLocationCache.shared().get(component, DefaultComponentLocation::createSingleComponent);
+  }
+
+  /**
+   * @return the metrics of the cache of the locations created by {@link #from(String)}, as of this call.
+   *
+   * @since 1.10
+   */
+  public static SingleComponentLocationCacheStatistics getSingleComponentLocationCacheStatistics() {
+    SingleComponentLocationCache cache = SingleComponentLocationCache.shared();
+    return new SingleComponentLocationCacheStatistics(cache.getHitCount(), cache.getMissCount(), cache.getEvictionCount());
+  }
+
+  private static DefaultComponentLocation createSingleComponent(String component) {
     DefaultLocationPart part = new DefaultLocationPart(component,
                                                        of(TypedComponentIdentifier.builder()
                                                            .type(UNKNOWN)
@@ -128,9 +160,44 @@ public class DefaultComponentLocation implements ComponentLocation, Serializable
   public DefaultComponentLocation(Optional<String> name, List<DefaultLocationPart> parts, List<URI> importChain) {
     this.name = name.orElse(null);
     this.parts = new LinkedList<>(parts);
-    this.importChain = new ArrayList<>(importChain);
+    // instances may be shared through the caches, so the import chain can't be changed by callers
+    this.importChain = unmodifiableList(new ArrayList<>(importChain));
     componentIdentifier = calculateComponentIdentifier(parts);
     rootContainerName = calculateRootContainerName();
+    hash = calculateHash();
+  }
+
+  private DefaultComponentLocation(DefaultComponentLocation prefix, DefaultLocationPart part) {
+    this.name = prefix.name;
+    this.parts = new LinkedList<>(prefix.parts);
+    this.parts.add(part);
+    this.importChain = emptyList();
+    componentIdentifier = calculateComponentIdentifier(this.parts);
+    rootContainerName = calculateRootContainerName();
+    if (prefix.hash == 0) {
+      // the hashes of the prefix were not kept, as with serializers that work on the fields
+      hash = calculateHash();
+    } else {
+      partsHash = 31 * prefix.partsHash + part.hashCode();
+      locationHash = appendToLocationHash(prefix.locationHash, !prefix.parts.isEmpty(), part);
+      hash = combineHash();
+    }
+  }
+
+  /**
+   * Returns a canonical instance for this location.
+   * <p>
+   * Equal locations that are interned are the same instance, so they can be compared by reference and take the memory of only
+   * one of them. If an interned location with the same {@link #getLocation() location string} but otherwise different (i.e.:
+   * from a different file or line) exists, this same instance is returned.
+   *
+   * @return the canonical instance for this location.
+   *
+   * @since 1.10
+   */
+  public DefaultComponentLocation intern() {
+    DefaultComponentLocation interned = INTERNED.get(getLocation(), location -> this);
+    return interned.equals(this) ? interned : this;
   }
 
   /**
@@ -161,7 +228,7 @@ public class DefaultComponentLocation implements ComponentLocation, Serializable
    */
   @Override
   public Optional<String> getFileName() {
-    return parts.getLast().getFileName();
+    return getLastPart().getFileName();
   }
 
   @Override
@@ -174,7 +241,7 @@ public class DefaultComponentLocation implements ComponentLocation, Serializable
    */
   @Override
   public Optional<Integer> getLineInFile() {
-    return parts.getLast().getLineInFile();
+    return getLastPart().getLineInFile();
   }
 
   /**
@@ -182,17 +249,17 @@ public class DefaultComponentLocation implements ComponentLocation, Serializable
    */
   @Override
   public Optional<Integer> getStartColumn() {
-    return parts.getLast().getStartColumn();
+    return getLastPart().getStartColumn();
   }
 
   @Override
   public OptionalInt getLine() {
-    return parts.getLast().getLine();
+    return getLastPart().getLine();
   }
 
   @Override
   public OptionalInt getColumn() {
-    return parts.getLast().getColumn();
+    return getLastPart().getColumn();
   }
 
   /**
@@ -223,7 +290,15 @@ public class DefaultComponentLocation implements ComponentLocation, Serializable
   }
 
   private String calculateRootContainerName() {
-    return getParts().isEmpty() ? null : getParts().get(0).getPartPath();
+    return parts.isEmpty() ? null : parts.getFirst().getPartPath();
+  }
+
+  private DefaultLocationPart getLastPart() {
+    return parts.getLast();
+  }
+
+  private DefaultComponentLocation append(DefaultLocationPart part) {
+    return new DefaultComponentLocation(this, part);
   }
 
   /**
@@ -241,8 +316,7 @@ public class DefaultComponentLocation implements ComponentLocation, Serializable
   public DefaultComponentLocation appendLocationPart(String partPath, Optional<TypedComponentIdentifier> partIdentifier,
                                                      Optional<String> fileName, OptionalInt lineInFile,
                                                      OptionalInt startColumn) {
-    return new DefaultComponentLocation(ofNullable(name), ImmutableList.<DefaultLocationPart>builder().addAll(parts)
-        .add(new DefaultLocationPart(partPath, partIdentifier, fileName, lineInFile, startColumn)).build());
+    return append(new DefaultLocationPart(partPath, partIdentifier, fileName, lineInFile, startColumn));
   }
 
 
@@ -259,8 +333,7 @@ public class DefaultComponentLocation implements ComponentLocation, Serializable
   public DefaultComponentLocation appendLocationPart(String partPath, Optional<TypedComponentIdentifier> partIdentifier,
                                                      Optional<String> fileName, Optional<Integer> lineInFile,
                                                      Optional<Integer> startColumn) {
-    return new DefaultComponentLocation(ofNullable(name), ImmutableList.<DefaultLocationPart>builder().addAll(parts)
-        .add(new DefaultLocationPart(partPath, partIdentifier, fileName, lineInFile, startColumn)).build());
+    return append(new DefaultLocationPart(partPath, partIdentifier, fileName, lineInFile, startColumn));
   }
 
   /**
@@ -270,8 +343,7 @@ public class DefaultComponentLocation implements ComponentLocation, Serializable
    * @return a new instance with the processors location part appended.
    */
   public DefaultComponentLocation appendProcessorsPart() {
-    return new DefaultComponentLocation(ofNullable(name), ImmutableList.<DefaultLocationPart>builder().addAll(parts)
-        .add(new DefaultLocationPart("processors", empty(), empty(), OptionalInt.empty(), OptionalInt.empty())).build());
+    return append(new DefaultLocationPart("processors", empty(), empty(), OptionalInt.empty(), OptionalInt.empty()));
   }
 
   /**
@@ -281,8 +353,7 @@ public class DefaultComponentLocation implements ComponentLocation, Serializable
    * @return a new instance with the processors location part appended.
    */
   public DefaultComponentLocation appendRoutePart() {
-    return new DefaultComponentLocation(ofNullable(name), ImmutableList.<DefaultLocationPart>builder().addAll(parts)
-        .add(new DefaultLocationPart("route", empty(), empty(), OptionalInt.empty(), OptionalInt.empty())).build());
+    return append(new DefaultLocationPart("route", empty(), empty(), OptionalInt.empty(), OptionalInt.empty()));
   }
 
   /**
@@ -296,8 +367,7 @@ public class DefaultComponentLocation implements ComponentLocation, Serializable
                                                        Optional<String> fileName,
                                                        OptionalInt lineInFile,
                                                        OptionalInt startColumn) {
-    return new DefaultComponentLocation(ofNullable(name), ImmutableList.<DefaultLocationPart>builder().addAll(parts)
-        .add(new DefaultLocationPart("connection", partIdentifier, fileName, lineInFile, startColumn)).build());
+    return append(new DefaultLocationPart("connection", partIdentifier, fileName, lineInFile, startColumn));
   }
 
   /**
@@ -471,6 +541,11 @@ public class DefaultComponentLocation implements ComponentLocation, Serializable
     in.defaultReadObject();
     this.componentIdentifier = calculateComponentIdentifier(this.parts);
     this.rootContainerName = calculateRootContainerName();
+    this.hash = calculateHash();
+  }
+
+  private Object readResolve() {
+    return intern();
   }
 
   protected TypedComponentIdentifier calculateComponentIdentifier(List<DefaultLocationPart> parts) {
@@ -488,28 +563,62 @@ public class DefaultComponentLocation implements ComponentLocation, Serializable
 
     DefaultComponentLocation that = (DefaultComponentLocation) o;
 
-    if (getName() != null ? !getName().equals(that.getName()) : that.getName() != null) {
+    if (hashCode() != that.hashCode() || !Objects.equals(name, that.name)) {
       return false;
     }
-    if (!getParts().equals(that.getParts())) {
-      return false;
-    }
-    return getLocation() != null ? getLocation().equals(that.getLocation()) : that.getLocation() == null;
+    // the location string is made of the part paths, so equal parts imply an equal location string
+    return parts.equals(that.parts);
   }
 
   @Override
   public int hashCode() {
-    int result = getName() != null ? getName().hashCode() : 0;
-    result = 31 * result + getParts().hashCode();
-    result = 31 * result + (getLocation() != null ? getLocation().hashCode() : 0);
+    int h = hash;
+    if (h == 0) {
+      // not kept by serializers that work on the fields
+      h = calculateHash();
+      hash = h;
+    }
+    return h;
+  }
+
+  private int calculateHash() {
+    int partsHash = 1;
+    int locationHash = 0;
+    boolean first = true;
+    for (DefaultLocationPart part : parts) {
+      partsHash = 31 * partsHash + part.hashCode();
+      locationHash = appendToLocationHash(locationHash, !first, part);
+      first = false;
+    }
+    this.partsHash = partsHash;
+    this.locationHash = locationHash;
+    return combineHash();
+  }
+
+  private int combineHash() {
+    // same as hashing the name, the list of parts and the location string, but without building the location string
+    int result = Objects.hashCode(name);
+    result = 31 * result + partsHash;
+    result = 31 * result + locationHash;
     return result;
   }
 
+  private static int appendToLocationHash(int locationHash, boolean withSeparator, DefaultLocationPart part) {
+    if (withSeparator) {
+      locationHash = 31 * locationHash + LOCATION_PART_SEPARATOR.charAt(0);
+    }
+    String partPath = String.valueOf(part.getPartPath());
+    for (int i = 0; i < partPath.length(); ++i) {
+      locationHash = 31 * locationHash + partPath.charAt(i);
+    }
+    return locationHash;
+  }
+
   @Override
   public String toString() {
     return "DefaultComponentLocation{" +
         "name='" + name + '\'' +
-        ", parts=" + parts +
+        ", parts=" + getParts() +
         ", location='" + getLocation() + '\'' +
         '}';
   }
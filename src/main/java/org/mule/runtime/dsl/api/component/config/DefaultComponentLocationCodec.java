@@ -0,0 +1,321 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.component.config;
+
+import static java.util.Optional.ofNullable;
+
+import org.mule.api.annotation.NoExtend;
+import org.mule.api.annotation.NoInstantiate;
+import org.mule.runtime.api.component.ComponentIdentifier;
+import org.mule.runtime.api.component.TypedComponentIdentifier;
+import org.mule.runtime.api.component.TypedComponentIdentifier.ComponentType;
+import org.mule.runtime.api.component.location.LocationPart;
+import org.mule.runtime.dsl.api.component.config.DefaultComponentLocation.DefaultLocationPart;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Compact binary form of {@link DefaultComponentLocation}s, for when many locations are persisted or sent to other nodes, i.e.:
+ * along with events.
+ * <p>
+ * Each location is written as its name followed by a table with an entry per part. The location string is not written, as it is
+ * made of the paths of the parts. Component identifiers and strings such as names, part paths and file names are written the
+ * first time only and referenced by index afterwards, through dictionaries shared by all the locations written with the same
+ * {@link Writer} and read with the same {@link Reader}. Since part paths such as {@code processors} or {@code 0} repeat across
+ * locations, this takes less space than writing each location string. Numbers are written as variable-length integers.
+ * <p>
+ * The {@link Writer}/{@link Reader} pair may be plugged into any serialization mechanism that works on {@link DataOutput} and
+ * {@link DataInput}. For Java serialization, {@link CompactLocation} wraps a single location as an {@link Externalizable}.
+ * <p>
+ * The import chain of the locations is not written, same as with the Java serialization of {@link DefaultComponentLocation}.
+ *
+ * @since 1.10
+ */
+public final class DefaultComponentLocationCodec {
+
+  private static final int FORMAT_VERSION = 1;
+
+  private DefaultComponentLocationCodec() {}
+
+  /**
+   * @param output where to write the locations to.
+   * @return a writer of locations into the given {@code output}.
+   */
+  public static Writer writer(DataOutput output) {
+    return new Writer(output);
+  }
+
+  /**
+   * @param input where to read the locations from, as written by a {@link Writer}.
+   * @return a reader of locations from the given {@code input}.
+   */
+  public static Reader reader(DataInput input) {
+    return new Reader(input);
+  }
+
+  /**
+   * Writes {@link DefaultComponentLocation}s into a {@link DataOutput}.
+   * <p>
+   * Instances are not thread-safe. The locations written with one writer must be read with a single {@link Reader}, in the same
+   * order.
+   */
+  @NoExtend
+  @NoInstantiate
+  public static final class Writer {
+
+    private final DataOutput output;
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final Map<TypedComponentIdentifier, Integer> identifiers = new HashMap<>();
+    private boolean headerWritten;
+
+    private Writer(DataOutput output) {
+      this.output = output;
+    }
+
+    /**
+     * @param location the location to write.
+     * @throws IOException if the location could not be written to the output.
+     */
+    public void write(DefaultComponentLocation location) throws IOException {
+      if (!headerWritten) {
+        writeVarInt(output, FORMAT_VERSION);
+        headerWritten = true;
+      }
+
+      writeString(location.getName().orElse(null));
+
+      List<LocationPart> parts = location.getParts();
+      writeVarInt(output, parts.size());
+      for (LocationPart part : parts) {
+        writeString(part.getPartPath());
+        writeIdentifier(part.getPartIdentifier().orElse(null));
+        writeString(part.getFileName().orElse(null));
+        writeOptionalInt(part.getLine());
+        writeOptionalInt(part.getColumn());
+      }
+    }
+
+    private void writeIdentifier(TypedComponentIdentifier identifier) throws IOException {
+      if (identifier == null) {
+        writeVarInt(output, 0);
+        return;
+      }
+
+      Integer index = identifiers.get(identifier);
+      if (index != null) {
+        writeVarInt(output, index + 2);
+        return;
+      }
+
+      identifiers.put(identifier, identifiers.size());
+      // 1 marks an identifier written for the first time
+      writeVarInt(output, 1);
+      writeString(identifier.getType() == null ? null : identifier.getType().name());
+      writeString(identifier.getIdentifier().getNamespace());
+      writeString(identifier.getIdentifier().getNamespaceUri());
+      writeString(identifier.getIdentifier().getName());
+    }
+
+    private void writeString(String value) throws IOException {
+      if (value == null) {
+        writeVarInt(output, 0);
+        return;
+      }
+
+      Integer index = strings.get(value);
+      if (index != null) {
+        writeVarInt(output, index + 2);
+        return;
+      }
+
+      strings.put(value, strings.size());
+      // 1 marks a string written for the first time
+      writeVarInt(output, 1);
+      output.writeUTF(value);
+    }
+
+    private void writeOptionalInt(OptionalInt value) throws IOException {
+      // lines and columns are never negative, so 0 is used for absent values
+      writeVarInt(output, value.isPresent() ? value.getAsInt() + 1 : 0);
+    }
+  }
+
+  /**
+   * Reads {@link DefaultComponentLocation}s written by a {@link Writer} from a {@link DataInput}.
+   * <p>
+   * Instances are not thread-safe.
+   */
+  @NoExtend
+  @NoInstantiate
+  public static final class Reader {
+
+    private final DataInput input;
+    private final List<String> strings = new ArrayList<>();
+    private final List<TypedComponentIdentifier> identifiers = new ArrayList<>();
+    private boolean headerRead;
+
+    private Reader(DataInput input) {
+      this.input = input;
+    }
+
+    /**
+     * @return the next location from the input.
+     * @throws IOException if the location could not be read from the input.
+     */
+    public DefaultComponentLocation read() throws IOException {
+      if (!headerRead) {
+        int version = readVarInt(input);
+        if (version != FORMAT_VERSION) {
+          throw new InvalidObjectException("Unsupported component location format version: " + version);
+        }
+        headerRead = true;
+      }
+
+      String name = readString();
+
+      int partsCount = readVarInt(input);
+      List<DefaultLocationPart> parts = new ArrayList<>(partsCount);
+      for (int i = 0; i < partsCount; ++i) {
+        String partPath = readString();
+        Optional<TypedComponentIdentifier> identifier = ofNullable(readIdentifier());
+        Optional<String> fileName = ofNullable(readString());
+        parts.add(new DefaultLocationPart(partPath, identifier, fileName, readOptionalInt(), readOptionalInt()));
+      }
+
+      return new DefaultComponentLocation(ofNullable(name), parts).intern();
+    }
+
+    private TypedComponentIdentifier readIdentifier() throws IOException {
+      int reference = readVarInt(input);
+      if (reference == 0) {
+        return null;
+      }
+      if (reference > 1) {
+        return identifiers.get(checkReference(reference - 2, identifiers.size()));
+      }
+
+      String type = readString();
+      ComponentIdentifier componentIdentifier = ComponentIdentifier.builder()
+          .namespace(readString())
+          .namespaceUri(readString())
+          .name(readString())
+          .build();
+      TypedComponentIdentifier identifier = TypedComponentIdentifier.builder()
+          .type(type == null ? null : toComponentType(type))
+          .identifier(componentIdentifier)
+          .build();
+      identifiers.add(identifier);
+      return identifier;
+    }
+
+    private String readString() throws IOException {
+      int reference = readVarInt(input);
+      if (reference == 0) {
+        return null;
+      }
+      if (reference > 1) {
+        return strings.get(checkReference(reference - 2, strings.size()));
+      }
+
+      String value = input.readUTF();
+      strings.add(value);
+      return value;
+    }
+
+    private OptionalInt readOptionalInt() throws IOException {
+      int value = readVarInt(input);
+      return value == 0 ? OptionalInt.empty() : OptionalInt.of(value - 1);
+    }
+
+    private static ComponentType toComponentType(String type) throws InvalidObjectException {
+      try {
+        return ComponentType.valueOf(type);
+      } catch (IllegalArgumentException e) {
+        throw new InvalidObjectException("Unknown component type: " + type);
+      }
+    }
+
+    private static int checkReference(int index, int size) throws InvalidObjectException {
+      if (index >= size) {
+        throw new InvalidObjectException("Reference to unknown entry " + index);
+      }
+      return index;
+    }
+  }
+
+  /**
+   * Wraps a {@link DefaultComponentLocation} to be written with Java serialization in the compact form of this codec.
+   */
+  @NoExtend
+  public static final class CompactLocation implements Externalizable {
+
+    private static final long serialVersionUID = -2311937484683946186L;
+
+    private DefaultComponentLocation location;
+
+    /**
+     * Only meant to be used by Java serialization.
+     */
+    public CompactLocation() {}
+
+    /**
+     * @param location the location to wrap.
+     */
+    public CompactLocation(DefaultComponentLocation location) {
+      this.location = location;
+    }
+
+    /**
+     * @return the wrapped location.
+     */
+    public DefaultComponentLocation getLocation() {
+      return location;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+      writer(out).write(location);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+      location = reader(in).read();
+    }
+  }
+
+  private static void writeVarInt(DataOutput output, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      output.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    output.writeByte(value);
+  }
+
+  private static int readVarInt(DataInput input) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = input.readByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new InvalidObjectException("Malformed variable-length integer");
+  }
+}
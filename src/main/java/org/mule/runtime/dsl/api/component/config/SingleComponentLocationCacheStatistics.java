@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.component.config;
+
+import org.mule.api.annotation.NoExtend;
+import org.mule.api.annotation.NoInstantiate;
+
+/**
+ * Metrics of the cache of the virtual locations created by {@link DefaultComponentLocation#from(String)}, as of the moment they
+ * were obtained.
+ *
+ * @see DefaultComponentLocation#getSingleComponentLocationCacheStatistics()
+ *
+ * @since 1.10
+ */
+@NoExtend
+@NoInstantiate
+public final class SingleComponentLocationCacheStatistics {
+
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+
+  SingleComponentLocationCacheStatistics(long hitCount, long missCount, long evictionCount) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+  }
+
+  /**
+   * @return how many times a location was found in the cache.
+   */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * @return how many times a location had to be created because it was not in the cache.
+   */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * @return the ratio of requests that found their location in the cache, or {@code 1.0} if there were no requests.
+   */
+  public double getHitRate() {
+    long requestCount = hitCount + missCount;
+    return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+  }
+
+  /**
+   * @return how many locations were evicted from the cache because of its size limit.
+   */
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+}
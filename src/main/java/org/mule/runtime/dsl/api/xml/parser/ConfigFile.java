@@ -10,6 +10,7 @@ import static org.mule.runtime.api.util.Preconditions.checkState;
 
 import org.mule.api.annotation.NoExtend;
 import org.mule.api.annotation.NoInstantiate;
+import org.mule.runtime.api.util.LazyValue;
 
 import java.util.List;
 
@@ -30,12 +31,14 @@ public final class ConfigFile implements Comparable<ConfigFile> {
 
   private final String filename;
   private final List<ConfigLine> configLines;
+  private final LazyValue<ConfigFileIndex> index;
 
   public ConfigFile(String filename, List<ConfigLine> configLines) {
     checkState(filename != null, "A config file must have a name");
     checkState(configLines != null, "A config file cannot have config lines");
     this.filename = filename;
     this.configLines = configLines;
+    this.index = new LazyValue<>(() -> new ConfigFileIndex(this));
   }
 
   /**
@@ -52,6 +55,18 @@ public final class ConfigFile implements Comparable<ConfigFile> {
     return configLines;
   }
 
+  /**
+   * The index is built the first time this method is called, from the config lines of this file at that moment, and is kept
+   * for as long as this file is. Nothing in this module requests it, so only the files that are actually queried pay for it.
+   *
+   * @return an index for querying the config lines of this file.
+   *
+   * @since 1.10
+   */
+  public ConfigFileIndex getIndex() {
+    return index.get();
+  }
+
   @Override
   public int compareTo(ConfigFile o) {
     return filename.compareTo(o.filename);
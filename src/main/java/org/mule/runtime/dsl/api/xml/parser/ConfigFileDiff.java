@@ -0,0 +1,322 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.xml.parser;
+
+import static org.mule.runtime.dsl.api.xml.parser.ConfigFileDiff.ChangeType.ADDED;
+import static org.mule.runtime.dsl.api.xml.parser.ConfigFileDiff.ChangeType.MODIFIED;
+import static org.mule.runtime.dsl.api.xml.parser.ConfigFileDiff.ChangeType.REMOVED;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+import org.mule.api.annotation.NoExtend;
+import org.mule.api.annotation.NoInstantiate;
+import org.mule.runtime.api.util.Pair;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * The differences between two versions of the {@link ConfigFile}s of an artifact, in terms of the {@link ConfigLine} subtrees
+ * that were added, removed or modified.
+ * <p>
+ * Files are matched by their name. Global elements (the children of the root {@link ConfigLine} of a file) are matched by their
+ * {@code name} attribute, or by their type and position among the unnamed global elements of the same type. If more than one
+ * global element has the same name, those after the first are matched by their position among the ones with that name. Nested
+ * elements are matched by their position within their parent.
+ * <p>
+ * Subtrees with the same {@link ConfigLine#getStructuralDigest() structural digest} are skipped without being walked, so
+ * computing the differences takes time linear in the size of the trees. A modified element is reported at the deepest level where
+ * its structure allows the comparison: if an element has the same attributes and number of children in both versions, its
+ * children are compared instead of the element itself.
+ * <p>
+ * Changes are reported with an index path: the name of the global element (or its position among the children of the root
+ * element when it has no name, or when an earlier global element has the same name), followed by the position of each nested
+ * element within its parent, separated by {@code /}, i.e.: {@code myFlow/2/0}. This is a path within the {@link ConfigLine}
+ * tree, <b>not</b> the location of a {@link org.mule.runtime.dsl.api.component.config.DefaultComponentLocation}, whose parts
+ * depend on the model of each component (i.e.: {@code myFlow/processors/2/route/0}). The location of the root element of a file
+ * is the empty string. A modification of the root element only refers to its own attributes, since its global elements are
+ * always compared separately.
+ *
+ * @since 1.10
+ * @deprecated From 4.4 onwards, use the {@code mule-artifact-ast-xml-parser} module.
+ */
+@NoExtend
+@NoInstantiate
+@Deprecated
+public final class ConfigFileDiff {
+
+  private static final String NAME_ATTRIBUTE = "name";
+  private static final String PATH_SEPARATOR = "/";
+
+  /**
+   * The kind of a {@link Change}.
+   */
+  public enum ChangeType {
+    /**
+     * The subtree is only present in the current configuration.
+     */
+    ADDED,
+    /**
+     * The subtree is only present in the previous configuration.
+     */
+    REMOVED,
+    /**
+     * The subtree is present in both configurations, with a different structure.
+     */
+    MODIFIED
+  }
+
+  /**
+   * A {@link ConfigLine} subtree that changed between the two versions of the configuration.
+   */
+  @NoExtend
+  @NoInstantiate
+  public static final class Change {
+
+    private final ChangeType type;
+    private final String filename;
+    private final String location;
+    private final ConfigLine previous;
+    private final ConfigLine current;
+
+    private Change(ChangeType type, String filename, String location, ConfigLine previous, ConfigLine current) {
+      this.type = type;
+      this.filename = filename;
+      this.location = location;
+      this.previous = previous;
+      this.current = current;
+    }
+
+    /**
+     * @return the kind of this change.
+     */
+    public ChangeType getType() {
+      return type;
+    }
+
+    /**
+     * @return the name of the file containing the changed subtree.
+     */
+    public String getFilename() {
+      return filename;
+    }
+
+    /**
+     * @return the index path of the changed subtree, as described in {@link ConfigFileDiff}.
+     */
+    public String getLocation() {
+      return location;
+    }
+
+    /**
+     * @return the subtree in the previous configuration, or {@code null} if it was {@link ChangeType#ADDED added}.
+     */
+    public ConfigLine getPrevious() {
+      return previous;
+    }
+
+    /**
+     * @return the subtree in the current configuration, or {@code null} if it was {@link ChangeType#REMOVED removed}.
+     */
+    public ConfigLine getCurrent() {
+      return current;
+    }
+
+    @Override
+    public String toString() {
+      return type + " " + filename + "#" + location;
+    }
+  }
+
+  private final List<Change> changes = new ArrayList<>();
+
+  /**
+   * Computes the differences between two versions of the configuration files of an artifact.
+   *
+   * @param previous the configuration files of the previous version.
+   * @param current  the configuration files of the current version.
+   * @return the differences from {@code previous} to {@code current}.
+   */
+  public static ConfigFileDiff diff(List<ConfigFile> previous, List<ConfigFile> current) {
+    ConfigFileDiff diff = new ConfigFileDiff();
+
+    Map<String, ConfigFile> previousByName = new LinkedHashMap<>();
+    previous.forEach(configFile -> previousByName.put(configFile.getFilename(), configFile));
+
+    for (ConfigFile currentFile : current) {
+      ConfigFile previousFile = previousByName.remove(currentFile.getFilename());
+      if (previousFile == null) {
+        currentFile.getConfigLines()
+            .forEach(root -> diff.addChange(ADDED, currentFile.getFilename(), "", null, root));
+      } else {
+        diff.diffFile(previousFile, currentFile);
+      }
+    }
+    for (ConfigFile removedFile : previousByName.values()) {
+      removedFile.getConfigLines()
+          .forEach(root -> diff.addChange(REMOVED, removedFile.getFilename(), "", root, null));
+    }
+
+    return diff;
+  }
+
+  private ConfigFileDiff() {}
+
+  private void diffFile(ConfigFile previousFile, ConfigFile currentFile) {
+    String filename = currentFile.getFilename();
+    List<ConfigLine> previousRoots = previousFile.getConfigLines();
+    List<ConfigLine> currentRoots = currentFile.getConfigLines();
+
+    for (int i = 0; i < Math.max(previousRoots.size(), currentRoots.size()); ++i) {
+      if (i >= currentRoots.size()) {
+        addChange(REMOVED, filename, "", previousRoots.get(i), null);
+      } else if (i >= previousRoots.size()) {
+        addChange(ADDED, filename, "", null, currentRoots.get(i));
+      } else {
+        diffRoot(filename, previousRoots.get(i), currentRoots.get(i));
+      }
+    }
+  }
+
+  private void diffRoot(String filename, ConfigLine previousRoot, ConfigLine currentRoot) {
+    if (previousRoot.sameDigest(currentRoot)) {
+      return;
+    }
+    if (!sameOwnStructure(previousRoot, currentRoot)) {
+      // i.e.: a namespace declaration was added, the global elements are still compared separately
+      addChange(MODIFIED, filename, "", previousRoot, currentRoot);
+    }
+
+    Map<String, Pair<String, ConfigLine>> previousGlobals = globalElementsByKey(previousRoot);
+    Map<String, Pair<String, ConfigLine>> currentGlobals = globalElementsByKey(currentRoot);
+
+    for (Entry<String, Pair<String, ConfigLine>> currentGlobal : currentGlobals.entrySet()) {
+      Pair<String, ConfigLine> previousGlobal = previousGlobals.remove(currentGlobal.getKey());
+      String location = currentGlobal.getValue().getFirst();
+      if (previousGlobal == null) {
+        addChange(ADDED, filename, location, null, currentGlobal.getValue().getSecond());
+      } else {
+        diffSubtree(filename, location, previousGlobal.getSecond(), currentGlobal.getValue().getSecond());
+      }
+    }
+    for (Pair<String, ConfigLine> removedGlobal : previousGlobals.values()) {
+      addChange(REMOVED, filename, removedGlobal.getFirst(), removedGlobal.getSecond(), null);
+    }
+  }
+
+  private void diffSubtree(String filename, String location, ConfigLine previous, ConfigLine current) {
+    Deque<PendingComparison> pending = new ArrayDeque<>();
+    pending.push(new PendingComparison(location, previous, current));
+
+    while (!pending.isEmpty()) {
+      PendingComparison next = pending.pop();
+
+      if (next.previous.sameDigest(next.current)) {
+        continue;
+      }
+      if (!sameOwnStructure(next.previous, next.current)
+          || next.previous.getChildren().size() != next.current.getChildren().size()) {
+        addChange(MODIFIED, filename, next.location, next.previous, next.current);
+        continue;
+      }
+
+      // push in reverse so changes are reported in document order
+      for (int i = next.current.getChildren().size() - 1; i >= 0; --i) {
+        pending.push(new PendingComparison(next.location + PATH_SEPARATOR + i,
+                                           next.previous.getChildren().get(i), next.current.getChildren().get(i)));
+      }
+    }
+  }
+
+  private static final class PendingComparison {
+
+    private final String location;
+    private final ConfigLine previous;
+    private final ConfigLine current;
+
+    private PendingComparison(String location, ConfigLine previous, ConfigLine current) {
+      this.location = location;
+      this.previous = previous;
+      this.current = current;
+    }
+  }
+
+  private static boolean sameOwnStructure(ConfigLine previous, ConfigLine current) {
+    return Objects.equals(previous.getNamespace(), current.getNamespace())
+        && Objects.equals(previous.getIdentifier(), current.getIdentifier())
+        && Objects.equals(previous.getTextContent(), current.getTextContent())
+        && previous.getConfigAttributes().equals(current.getConfigAttributes());
+  }
+
+  /**
+   * @return the global elements of the given root, with their location, by the key used to match them between versions.
+   */
+  private static Map<String, Pair<String, ConfigLine>> globalElementsByKey(ConfigLine root) {
+    Map<String, Pair<String, ConfigLine>> globalElements = new LinkedHashMap<>();
+    Map<String, Integer> namedOccurrences = new HashMap<>();
+    Map<String, Integer> unnamedOccurrences = new HashMap<>();
+    List<ConfigLine> children = root.getChildren();
+    for (int i = 0; i < children.size(); ++i) {
+      ConfigLine globalElement = children.get(i);
+      SimpleConfigAttribute name = globalElement.getConfigAttributes().get(NAME_ATTRIBUTE);
+      String key;
+      String location;
+      if (name != null) {
+        int occurrence = namedOccurrences.merge(name.getValue(), 1, Integer::sum);
+        if (occurrence == 1) {
+          key = "name:" + name.getValue();
+          location = name.getValue();
+        } else {
+          // the name no longer identifies the element, so it is located by its position
+          key = "name:" + name.getValue() + ":" + occurrence;
+          location = String.valueOf(i);
+        }
+      } else {
+        String type = globalElement.getNamespaceUri() + ":" + globalElement.getIdentifier();
+        key = "type:" + type + ":" + unnamedOccurrences.merge(type, 1, Integer::sum);
+        location = String.valueOf(i);
+      }
+      globalElements.put(key, new Pair<>(location, globalElement));
+    }
+    return globalElements;
+  }
+
+  private void addChange(ChangeType type, String filename, String location, ConfigLine previous, ConfigLine current) {
+    changes.add(new Change(type, filename, location, previous, current));
+  }
+
+  /**
+   * @return all the changes, in the order of the files and elements in the current configuration, followed by those that are
+   *         only in the previous configuration.
+   */
+  public List<Change> getChanges() {
+    return unmodifiableList(changes);
+  }
+
+  /**
+   * @param type the kind of the changes to return.
+   * @return the changes of the given kind.
+   */
+  public List<Change> getChanges(ChangeType type) {
+    return changes.stream().filter(change -> change.getType() == type).collect(toList());
+  }
+
+  /**
+   * @return {@code true} if both versions of the configuration have the same structure.
+   */
+  public boolean isEmpty() {
+    return changes.isEmpty();
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.xml.parser;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.Optional.ofNullable;
+
+import org.mule.api.annotation.NoExtend;
+import org.mule.api.annotation.NoInstantiate;
+import org.mule.runtime.api.util.Pair;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Index over the {@link ConfigLine}s of a {@link ConfigFile}, built once so that the tree does not have to be walked for each
+ * query.
+ * <p>
+ * Global elements (the children of the root {@link ConfigLine}s of the file) are indexed by their namespace URI and identifier,
+ * and by their {@code name} attribute. Every {@link ConfigLine} of the file is indexed by the lines it spans in the source file.
+ *
+ * @since 1.10
+ * @deprecated From 4.4 onwards, use the {@code mule-artifact-ast-xml-parser} module.
+ */
+@NoExtend
+@NoInstantiate
+@Deprecated
+public final class ConfigFileIndex {
+
+  private static final String NAME_ATTRIBUTE = "name";
+
+  private final Map<String, Map<String, List<ConfigLine>>> globalElementsByType = new HashMap<>();
+  private final Map<String, ConfigLine> globalElementsByName = new HashMap<>();
+
+  // All the config lines in document order, with the lines they span and the index of their parent in these same arrays.
+  private final ConfigLine[] lines;
+  private final int[] startLines;
+  private final int[] endLines;
+  private final int[] parents;
+
+  ConfigFileIndex(ConfigFile configFile) {
+    for (ConfigLine rootConfigLine : configFile.getConfigLines()) {
+      for (ConfigLine globalElement : rootConfigLine.getChildren()) {
+        globalElementsByType.computeIfAbsent(globalElement.getNamespaceUri(), k -> new HashMap<>())
+            .computeIfAbsent(globalElement.getIdentifier(), k -> new ArrayList<>())
+            .add(globalElement);
+
+        SimpleConfigAttribute nameAttribute = globalElement.getConfigAttributes().get(NAME_ATTRIBUTE);
+        if (nameAttribute != null) {
+          globalElementsByName.putIfAbsent(nameAttribute.getValue(), globalElement);
+        }
+      }
+    }
+
+    List<ConfigLine> allLines = new ArrayList<>();
+    List<Integer> parentIndexes = new ArrayList<>();
+    Deque<Pair<ConfigLine, Integer>> pending = new ArrayDeque<>();
+    for (int i = configFile.getConfigLines().size() - 1; i >= 0; --i) {
+      pending.push(new Pair<>(configFile.getConfigLines().get(i), -1));
+    }
+    while (!pending.isEmpty()) {
+      Pair<ConfigLine, Integer> current = pending.pop();
+      int index = allLines.size();
+      allLines.add(current.getFirst());
+      parentIndexes.add(current.getSecond());
+
+      List<ConfigLine> children = current.getFirst().getChildren();
+      for (int i = children.size() - 1; i >= 0; --i) {
+        pending.push(new Pair<>(children.get(i), index));
+      }
+    }
+
+    lines = allLines.toArray(new ConfigLine[allLines.size()]);
+    startLines = new int[lines.length];
+    endLines = new int[lines.length];
+    parents = new int[lines.length];
+    for (int i = 0; i < lines.length; ++i) {
+      startLines[i] = lines[i].getLineNumber();
+      endLines[i] = Math.max(lines[i].getLineNumber(), lines[i].getEndLineNumber());
+      parents[i] = parentIndexes.get(i);
+    }
+    // A parent spans at least up to the last line of its children, even if its own end line is unknown.
+    for (int i = lines.length - 1; i >= 0; --i) {
+      if (parents[i] >= 0 && endLines[parents[i]] < endLines[i]) {
+        endLines[parents[i]] = endLines[i];
+      }
+    }
+  }
+
+  /**
+   * @param namespaceUri the namespace URI of the global elements to find.
+   * @param identifier   the identifier of the global elements to find.
+   * @return the global elements with the given namespace URI and identifier, in the order they appear in the file.
+   */
+  public List<ConfigLine> findGlobalElements(String namespaceUri, String identifier) {
+    List<ConfigLine> found = globalElementsByType.getOrDefault(namespaceUri, emptyMap()).get(identifier);
+    return found == null ? emptyList() : unmodifiableList(found);
+  }
+
+  /**
+   * @param name the value of the {@code name} attribute of the global element to find.
+   * @return the first global element in the file with the given name, if any.
+   */
+  public Optional<ConfigLine> findGlobalElement(String name) {
+    return ofNullable(globalElementsByName.get(name));
+  }
+
+  /**
+   * @param lineNumber a line number within the file.
+   * @return the innermost {@link ConfigLine} whose definition spans the given line, if any.
+   */
+  public Optional<ConfigLine> findConfigLineAt(int lineNumber) {
+    // Find the last config line, in document order, that starts at or before the given line...
+    int low = 0;
+    int high = startLines.length - 1;
+    int candidate = -1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (startLines[mid] <= lineNumber) {
+        candidate = mid;
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+
+    // ... then go up to the first of its ancestors that is still open at the given line.
+    while (candidate >= 0) {
+      if (endLines[candidate] >= lineNumber) {
+        return of(lines[candidate]);
+      }
+      candidate = parents[candidate];
+    }
+    return empty();
+  }
+}
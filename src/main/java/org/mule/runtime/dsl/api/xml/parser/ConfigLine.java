@@ -8,16 +8,25 @@ package org.mule.runtime.dsl.api.xml.parser;
 
 import static org.mule.runtime.api.util.Preconditions.checkState;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+
 import org.mule.api.annotation.NoExtend;
 import org.mule.api.annotation.NoInstantiate;
+import org.mule.runtime.dsl.internal.util.SortedArrayMap;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.function.Supplier;
 
-import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
 /**
  * A configuration line represents the data within a line in a configuration file
@@ -49,28 +58,45 @@ public final class ConfigLine {
   private String identifier;
 
   /**
-   * The identifier attributes defined in the configuration
+   * The identifier attributes defined in the configuration. Immutable once the config line is built.
    */
-  private final Map<String, SimpleConfigAttribute> configAttributes = new HashMap<>();
+  private Map<String, SimpleConfigAttribute> configAttributes = emptyMap();
 
   /**
-   * Generic set of attributes to be used for custom configuration file formats attributes
+   * Generic set of attributes to be used for custom configuration file formats attributes. Immutable once the config line is
+   * built.
    */
-  private final Map<String, Object> customAttributes = new HashMap<>();
+  private Map<String, Object> customAttributes = emptyMap();
 
   /**
-   * Config lines embedded inside this config line
+   * Config lines embedded inside this config line. Immutable once the config line is built.
    */
-  private final List<ConfigLine> childrenConfigLines = new LinkedList<>();
+  private List<ConfigLine> childrenConfigLines = emptyList();
 
   /**
    * Line number within the config file in which this config was defined.
    */
   private int lineNumber;
 
+  /**
+   * Line number within the config file in which the definition of this config line ends.
+   */
+  private int endLineNumber;
+
   private String textContent;
   private int startColumn;
   private String sourceCode;
+  // set instead of sourceCode when the source is kept compressed on the heap, so it is only decompressed when read
+  private Supplier<String> sourceCodeSupplier;
+
+  /**
+   * Merkle digest of the structure of this config line and its children, computed once when the config line is built and never
+   * changed afterwards. The digest is written before the volatile flag, so that it is visible to any thread that sees the flag
+   * set.
+   */
+  private long digestHigh;
+  private long digestLow;
+  private volatile boolean digestComputed;
 
   public ConfigLine() {}
 
@@ -86,14 +112,32 @@ public final class ConfigLine {
     return identifier;
   }
 
+  /**
+   * Since 1.10 the attributes are iterated in the natural order of their names. Before, the iteration order was unspecified.
+   *
+   * @return a read-only view of the attributes of this config line.
+   */
   public Map<String, SimpleConfigAttribute> getConfigAttributes() {
-    return ImmutableMap.copyOf(configAttributes);
+    return configAttributes;
   }
 
+  /**
+   * Since 1.10 the custom attributes are iterated in the natural order of their names. Before, the iteration order was
+   * unspecified.
+   *
+   * @return a read-only view of the custom attributes of this config line.
+   */
   public Map<String, Object> getCustomAttributes() {
-    return Collections.unmodifiableMap(customAttributes);
+    return customAttributes;
   }
 
+  /**
+   * Since 1.10 the returned list is read-only, and modifying it throws {@link UnsupportedOperationException}. Before, it was the
+   * live list of children of this config line. Children can only be added through {@link Builder#addChild(ConfigLine)} before the
+   * config line is built, since they are part of its {@link #getStructuralDigest() structural digest}.
+   *
+   * @return a read-only view of the config lines embedded inside this config line.
+   */
   public List<ConfigLine> getChildren() {
     return childrenConfigLines;
   }
@@ -117,6 +161,15 @@ public final class ConfigLine {
     return lineNumber;
   }
 
+  /**
+   * @return the last line number in which the config line was defined in the configuration file, or {@code 0} if unknown.
+   *
+   * @since 1.10
+   */
+  public int getEndLineNumber() {
+    return endLineNumber;
+  }
+
   /**
    * @return the start column in which the config line was defined in the configuration file.
    */
@@ -125,9 +178,92 @@ public final class ConfigLine {
   }
 
   public String getSourceCode() {
+    if (sourceCode == null && sourceCodeSupplier != null) {
+      return sourceCodeSupplier.get();
+    }
     return sourceCode;
   }
 
+  /**
+   * The structural digest is a hash of the namespace, identifier, attributes and text content of this config line, and the
+   * structural digests of its children. Two config lines with different structural digests are not {@link #equals(Object) equal}.
+   * <p>
+   * It is computed once for each config line, so it may be used for detecting changes or as a cache key without walking the
+   * tree.
+   *
+   * @return the structural digest of this config line, as a hex string.
+   *
+   * @since 1.10
+   */
+  public String getStructuralDigest() {
+    ensureDigest();
+    return String.format("%016x%016x", digestHigh, digestLow);
+  }
+
+  /**
+   * @return {@code true} if this config line and the given one have the same structural digest.
+   */
+  boolean sameDigest(ConfigLine other) {
+    ensureDigest();
+    other.ensureDigest();
+    return digestHigh == other.digestHigh && digestLow == other.digestLow;
+  }
+
+  private void ensureDigest() {
+    if (!digestComputed) {
+      computeDigest();
+    }
+  }
+
+  private void computeDigest() {
+    Hasher hasher = Hashing.murmur3_128().newHasher();
+    putString(hasher, namespace);
+    putString(hasher, identifier);
+    hasher.putInt(configAttributes.size());
+    for (Entry<String, SimpleConfigAttribute> attribute : configAttributes.entrySet()) {
+      putString(hasher, attribute.getKey());
+      putString(hasher, attribute.getValue().getName());
+      putString(hasher, attribute.getValue().getValue());
+      hasher.putBoolean(attribute.getValue().isValueFromSchema());
+    }
+    putString(hasher, textContent);
+    hasher.putInt(childrenConfigLines.size());
+    for (ConfigLine child : childrenConfigLines) {
+      child.ensureDigest();
+      hasher.putLong(child.digestHigh);
+      hasher.putLong(child.digestLow);
+    }
+
+    byte[] digest = hasher.hash().asBytes();
+    digestHigh = toLong(digest, 0);
+    digestLow = toLong(digest, 8);
+    digestComputed = true;
+  }
+
+  private static void putString(Hasher hasher, String value) {
+    if (value == null) {
+      hasher.putInt(-1);
+    } else {
+      hasher.putInt(value.length());
+      hasher.putUnencodedChars(value);
+    }
+  }
+
+  private static long toLong(byte[] bytes, int offset) {
+    long value = 0;
+    for (int i = offset; i < offset + 8; ++i) {
+      value = (value << 8) | (bytes[i] & 0xFF);
+    }
+    return value;
+  }
+
+  /**
+   * Two config lines are equal if they have the same namespace, identifier, text content, attributes and children. Attributes are
+   * compared by value.
+   * <p>
+   * Since 1.10 the text content is also compared, and attributes are compared by value rather than by identity, so config lines
+   * parsed separately from the same source are now equal.
+   */
   @Override
   public boolean equals(Object o) {
     if (this == o)
@@ -137,9 +273,15 @@ public final class ConfigLine {
 
     ConfigLine that = (ConfigLine) o;
 
-    if (namespace != null ? !namespace.equals(that.namespace) : that.namespace != null)
+    // Different digests means different structure, no need to go through the whole tree
+    if (!sameDigest(that))
+      return false;
+
+    if (!Objects.equals(namespace, that.namespace))
+      return false;
+    if (!Objects.equals(identifier, that.identifier))
       return false;
-    if (identifier != null ? !identifier.equals(that.identifier) : that.identifier != null)
+    if (!Objects.equals(textContent, that.textContent))
       return false;
     if (!configAttributes.equals(that.configAttributes))
       return false;
@@ -147,13 +289,13 @@ public final class ConfigLine {
 
   }
 
+  /**
+   * Derived from the {@link #getStructuralDigest() structural digest}, consistently with {@link #equals(Object)}.
+   */
   @Override
   public int hashCode() {
-    int result = namespace != null ? namespace.hashCode() : 0;
-    result = 31 * result + (identifier != null ? identifier.hashCode() : 0);
-    result = 31 * result + (configAttributes.hashCode());
-    result = 31 * result + (childrenConfigLines.hashCode());
-    return result;
+    ensureDigest();
+    return (int) (digestLow ^ (digestLow >>> 32));
   }
 
 
@@ -164,6 +306,11 @@ public final class ConfigLine {
     private final ConfigLine configLine = new ConfigLine();
     private boolean alreadyBuild;
 
+    // Mutable state is only kept in the builder, and frozen into compact immutable structures on build()
+    private Map<String, SimpleConfigAttribute> configAttributes;
+    private Map<String, Object> customAttributes;
+    private List<ConfigLine> children;
+
     public Builder setNamespace(String namespace) {
       checkState(!alreadyBuild, BUILDER_ALREADY_BUILD_AN_OBJECT_YOU_CANNOT_MODIFY_IT);
       configLine.namespace = namespace;
@@ -188,6 +335,15 @@ public final class ConfigLine {
       return this;
     }
 
+    /**
+     * @since 1.10
+     */
+    public Builder setEndLineNumber(int endLineNumber) {
+      checkState(!alreadyBuild, BUILDER_ALREADY_BUILD_AN_OBJECT_YOU_CANNOT_MODIFY_IT);
+      configLine.endLineNumber = endLineNumber;
+      return this;
+    }
+
     public Builder setStartColumn(int startColumn) {
       checkState(!alreadyBuild, BUILDER_ALREADY_BUILD_AN_OBJECT_YOU_CANNOT_MODIFY_IT);
       configLine.startColumn = startColumn;
@@ -196,19 +352,28 @@ public final class ConfigLine {
 
     public Builder addConfigAttribute(String name, String value, boolean valueFromSchema) {
       checkState(!alreadyBuild, BUILDER_ALREADY_BUILD_AN_OBJECT_YOU_CANNOT_MODIFY_IT);
-      configLine.configAttributes.put(name, new SimpleConfigAttribute(name, value, valueFromSchema));
+      if (configAttributes == null) {
+        configAttributes = new HashMap<>();
+      }
+      configAttributes.put(name, new SimpleConfigAttribute(name, value, valueFromSchema));
       return this;
     }
 
     public Builder addCustomAttribute(String name, Object value) {
       checkState(!alreadyBuild, BUILDER_ALREADY_BUILD_AN_OBJECT_YOU_CANNOT_MODIFY_IT);
-      configLine.customAttributes.put(name, value);
+      if (customAttributes == null) {
+        customAttributes = new HashMap<>();
+      }
+      customAttributes.put(name, value);
       return this;
     }
 
     public Builder addChild(ConfigLine line) {
       checkState(!alreadyBuild, BUILDER_ALREADY_BUILD_AN_OBJECT_YOU_CANNOT_MODIFY_IT);
-      configLine.childrenConfigLines.add(line);
+      if (children == null) {
+        children = new ArrayList<>();
+      }
+      children.add(line);
       return this;
     }
 
@@ -222,18 +387,52 @@ public final class ConfigLine {
       return this;
     }
 
+    /**
+     * Since 1.10 the text content cannot be set once the config line is built, since it is part of the structural digest of the
+     * config line and of all the config lines that contain it.
+     */
     public Builder setTextContent(String textContent) {
+      checkState(!alreadyBuild, BUILDER_ALREADY_BUILD_AN_OBJECT_YOU_CANNOT_MODIFY_IT);
       configLine.textContent = textContent;
       return this;
     }
 
     public Builder setSourceCode(String sourceCode) {
       configLine.sourceCode = sourceCode;
+      configLine.sourceCodeSupplier = null;
+      return this;
+    }
+
+    /**
+     * Sets the source code of the config line to be obtained from the given {@code sourceCodeSupplier} every time it is
+     * requested, for it to be kept in a more compact form than a {@link String} in the meantime.
+     *
+     * @param sourceCodeSupplier the supplier of the source code.
+     * @return this builder.
+     *
+     * @since 1.10
+     */
+    public Builder setSourceCodeSupplier(Supplier<String> sourceCodeSupplier) {
+      configLine.sourceCode = null;
+      configLine.sourceCodeSupplier = sourceCodeSupplier;
       return this;
     }
 
     public ConfigLine build() {
       alreadyBuild = true;
+      if (configAttributes != null) {
+        configLine.configAttributes = SortedArrayMap.copyOf(configAttributes);
+        configAttributes = null;
+      }
+      if (customAttributes != null) {
+        configLine.customAttributes = SortedArrayMap.copyOf(customAttributes);
+        customAttributes = null;
+      }
+      if (children != null) {
+        configLine.childrenConfigLines = unmodifiableList(asList(children.toArray(new ConfigLine[children.size()])));
+        children = null;
+      }
+      configLine.computeDigest();
       return configLine;
     }
   }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.xml.parser;
+
+import org.mule.api.annotation.NoExtend;
+
+/**
+ * Statistics of the canonicalization of the namespaces, identifiers and attribute names of the configurations processed by
+ * {@link XmlConfigurationProcessor#processXmlConfiguration(XmlParsingConfiguration, ConfigParsingStatistics)}.
+ * <p>
+ * Only what was canonicalized while processing the configurations passed along with this object is accounted, even when the
+ * {@link XmlParsingConfiguration#isSharedSymbolTable() shared symbol table} is used. If the same instance is passed to more than
+ * one processing, the statistics of all of them are added up.
+ *
+ * @since 1.10
+ */
+@NoExtend
+public final class ConfigParsingStatistics {
+
+  private long symbolLookups;
+  private long deduplicatedSymbols;
+  private long bytesSavedBySymbols;
+
+  void add(long symbolLookups, long deduplicatedSymbols, long bytesSavedBySymbols) {
+    this.symbolLookups += symbolLookups;
+    this.deduplicatedSymbols += deduplicatedSymbols;
+    this.bytesSavedBySymbols += bytesSavedBySymbols;
+  }
+
+  /**
+   * @return how many namespaces, identifiers and attribute names were canonicalized.
+   */
+  public long getSymbolLookups() {
+    return symbolLookups;
+  }
+
+  /**
+   * @return how many namespaces, identifiers and attribute names were replaced with an already existing equal instance.
+   */
+  public long getDeduplicatedSymbols() {
+    return deduplicatedSymbols;
+  }
+
+  /**
+   * @return an estimate of the heap, in bytes, that was saved by replacing those with an already existing equal instance.
+   */
+  public long getBytesSavedBySymbols() {
+    return bytesSavedBySymbols;
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.xml.parser;
+
+/**
+ * How much metadata about the source of each element is captured when loading a configuration file with an
+ * {@link XmlConfigurationDocumentLoader}.
+ * <p>
+ * The lower the level, the less work and memory is spent when loading the document, at the expense of the information available
+ * in the resulting {@link ConfigLine}s.
+ *
+ * @since 1.10
+ */
+public enum MetadataCaptureLevel {
+
+  /**
+   * No metadata is captured. The {@link ConfigLine}s will not have line numbers, columns nor source code.
+   */
+  NONE,
+
+  /**
+   * Only the position of the tags of each element is captured. The {@link ConfigLine}s will have line numbers and columns, but no
+   * source code.
+   */
+  POSITIONS_ONLY,
+
+  /**
+   * The position of the tags and the reconstructed source of each element are captured.
+   */
+  FULL_SOURCE
+}
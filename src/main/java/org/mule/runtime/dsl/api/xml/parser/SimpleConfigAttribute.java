@@ -9,6 +9,8 @@ package org.mule.runtime.dsl.api.xml.parser;
 import org.mule.api.annotation.NoExtend;
 import org.mule.api.annotation.NoInstantiate;
 
+import java.util.Objects;
+
 /**
  * Represents a simple configuration attribute.
  *
@@ -54,4 +56,28 @@ public final class SimpleConfigAttribute {
   public boolean isValueFromSchema() {
     return valueFromSchema;
   }
+
+  /**
+   * Since 1.10 attributes are compared by value: two attributes are equal if they have the same name and value, and whether the
+   * value came from the DSL schema is the same. Previously attributes were only equal to themselves.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    SimpleConfigAttribute that = (SimpleConfigAttribute) o;
+    return valueFromSchema == that.valueFromSchema
+        && Objects.equals(name, that.name)
+        && Objects.equals(value, that.value);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, value, valueFromSchema);
+  }
 }
@@ -8,21 +8,15 @@ package org.mule.runtime.dsl.api.xml.parser;
 
 import static java.lang.String.format;
 
-import org.mule.runtime.api.exception.MuleRuntimeException;
-import org.mule.runtime.dsl.api.xml.XmlNamespaceInfo;
 import org.mule.runtime.dsl.api.xml.XmlNamespaceInfoProvider;
+import org.mule.runtime.dsl.internal.xml.parser.XmlNamespaceIndex;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import org.w3c.dom.Node;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.collect.ImmutableList;
-
 /**
  * Simple parser that allows to obtain the required data from an XML document.
  * <p>
@@ -50,8 +44,7 @@ public class XmlApplicationParser {
   private static final String COLON = ":";
   private static final Map<String, String> predefinedNamespace = new HashMap<>();
   private static final String UNDEFINED_NAMESPACE = "undefined";
-  private final List<XmlNamespaceInfoProvider> namespaceInfoProviders;
-  private final Cache<String, String> namespaceCache;
+  private final XmlNamespaceIndex namespaceIndex;
 
   static {
     predefinedNamespace.put(DOMAIN_NAMESPACE, DOMAIN_PREFIX);
@@ -59,38 +52,23 @@ public class XmlApplicationParser {
   }
 
   public XmlApplicationParser(List<XmlNamespaceInfoProvider> namespaceInfoProviders) {
-    this.namespaceInfoProviders = ImmutableList.<XmlNamespaceInfoProvider>builder().addAll(namespaceInfoProviders).build();
-    this.namespaceCache = CacheBuilder.newBuilder().build();
+    this.namespaceIndex = XmlNamespaceIndex.forProviders(namespaceInfoProviders);
   }
 
-  private String loadNamespaceFromProviders(String namespaceUri) {
+  public String getNormalizedNamespace(String namespaceUri, String namespacePrefix) {
     if (predefinedNamespace.containsKey(namespaceUri)) {
       return predefinedNamespace.get(namespaceUri);
     }
-    for (XmlNamespaceInfoProvider namespaceInfoProvider : namespaceInfoProviders) {
-      Optional<XmlNamespaceInfo> matchingXmlNamespaceInfo = namespaceInfoProvider.getXmlNamespacesInfo().stream()
-          .filter(xmlNamespaceInfo -> namespaceUri.equals(xmlNamespaceInfo.getNamespaceUriPrefix())).findFirst();
-      if (matchingXmlNamespaceInfo.isPresent()) {
-        return matchingXmlNamespaceInfo.get().getNamespace();
-      }
+    if (!namespaceIndex.contains(namespaceUri)) {
+      // TODO MULE-9638 for now since just return a fake value. When done right throw a configuration exception with a meaningful
+      // message if there's no info provider defined
+      return UNDEFINED_NAMESPACE;
     }
-    // TODO MULE-9638 for now since just return a fake value since guava cache does not support null values. When done right throw
-    // a configuration exception with a meaningful message if there's no info provider defined
-    return UNDEFINED_NAMESPACE;
-  }
-
-  public String getNormalizedNamespace(String namespaceUri, String namespacePrefix) {
-    try {
-      return namespaceCache.get(namespaceUri, () -> {
-        String namespace = loadNamespaceFromProviders(namespaceUri);
-        if (namespace == null) {
-          namespace = namespacePrefix;
-        }
-        return namespace;
-      });
-    } catch (Exception e) {
-      throw new MuleRuntimeException(e);
+    String namespace = namespaceIndex.getNamespace(namespaceUri);
+    if (namespace == null) {
+      namespace = namespacePrefix;
     }
+    return namespace;
   }
 
   public String parseNamespace(Node node) {
@@ -114,6 +92,14 @@ public class XmlApplicationParser {
 
   public String parseIdentifier(Node node) {
     String identifier = node.getNodeName();
+    int colonIndex = identifier.indexOf(COLON);
+    if (colonIndex < 0) {
+      return identifier;
+    }
+    if (colonIndex < identifier.length() - 1 && identifier.indexOf(COLON, colonIndex + 1) < 0) {
+      // the usual prefix:name case, avoid the split
+      return identifier.substring(colonIndex + 1);
+    }
     String[] nameParts = identifier.split(COLON);
     if (nameParts.length > 1) {
       identifier = nameParts[1];
@@ -9,12 +9,15 @@ package org.mule.runtime.dsl.api.xml.parser;
 import static java.lang.String.format;
 import static java.lang.System.lineSeparator;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.dsl.api.xml.parser.MetadataCaptureLevel.FULL_SOURCE;
 
 import org.mule.apache.xerces.xni.grammars.XMLGrammarPool;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.dsl.internal.xml.parser.DefaultXmlGathererErrorHandlerFactory;
 import org.mule.runtime.dsl.internal.xml.parser.DefaultXmlLoggerErrorHandler;
 import org.mule.runtime.dsl.internal.xml.parser.MuleDocumentLoader;
+import org.mule.runtime.dsl.internal.xml.parser.SensitiveAttributeMasker;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -53,6 +56,7 @@ public final class XmlConfigurationDocumentLoader {
 
   private final XmlGathererErrorHandlerFactory xmlGathererErrorHandlerFactory;
   private final int validationMode;
+  private final MetadataCaptureLevel metadataCaptureLevel;
 
   /**
    * Creates an {@link XmlConfigurationDocumentLoader} using the default {@link DefaultXmlGathererErrorHandlerFactory} to
@@ -97,8 +101,29 @@ public final class XmlConfigurationDocumentLoader {
   }
 
   private XmlConfigurationDocumentLoader(XmlGathererErrorHandlerFactory errorHandlerFactory) {
+    this(errorHandlerFactory, FULL_SOURCE);
+  }
+
+  private XmlConfigurationDocumentLoader(XmlGathererErrorHandlerFactory errorHandlerFactory,
+                                         MetadataCaptureLevel metadataCaptureLevel) {
     this.validationMode = errorHandlerFactory != null ? VALIDATION_XSD : NO_VALIDATION;
     this.xmlGathererErrorHandlerFactory = errorHandlerFactory;
+    this.metadataCaptureLevel = metadataCaptureLevel;
+  }
+
+  /**
+   * Creates an {@link XmlConfigurationDocumentLoader} with the same validation as this one, that captures the given level of
+   * metadata for each element of the loaded documents.
+   * <p/>
+   * By default, {@link MetadataCaptureLevel#FULL_SOURCE} is used.
+   *
+   * @param metadataCaptureLevel how much metadata to capture for each element.
+   * @return a new instance of {@link XmlConfigurationDocumentLoader}
+   * @since 1.10
+   */
+  public XmlConfigurationDocumentLoader withMetadataCaptureLevel(MetadataCaptureLevel metadataCaptureLevel) {
+    checkArgument(metadataCaptureLevel != null, "metadataCaptureLevel cannot be null");
+    return new XmlConfigurationDocumentLoader(xmlGathererErrorHandlerFactory, metadataCaptureLevel);
   }
 
   /**
@@ -149,7 +174,7 @@ public final class XmlConfigurationDocumentLoader {
     final XmlGathererErrorHandler errorHandler = createXmlGathererErrorHandler();
     Document document;
     try {
-      document = new MuleDocumentLoader()
+      document = new MuleDocumentLoader(SensitiveAttributeMasker.getDefault(), metadataCaptureLevel)
           .loadDocument(saxParserFactorySupplier, new InputSource(inputStream),
                         entityResolver,
                         errorHandler == null ? new DefaultHandler() : errorHandler,
@@ -20,6 +20,8 @@ import static java.util.stream.Collectors.toList;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.dsl.api.ConfigResource;
+import org.mule.runtime.dsl.internal.util.CompressedSourceStore;
+import org.mule.runtime.dsl.internal.util.SymbolTable;
 import org.mule.runtime.dsl.internal.xml.parser.XmlApplicationParser;
 
 import java.io.IOException;
@@ -47,6 +49,20 @@ public class XmlConfigurationProcessor {
    */
   @Deprecated
   public static List<ConfigFile> processXmlConfiguration(XmlParsingConfiguration parsingConfiguration) {
+    return processXmlConfiguration(parsingConfiguration, new ConfigParsingStatistics());
+  }
+
+  /**
+   * @param parsingConfiguration the configuration to process.
+   * @param statistics           where to add the statistics of the processing to.
+   * @return the processed config files.
+   *
+   * @since 1.10
+   * @deprecated since 1.4 use {@code mule-artifact-ast-xml-parser} instead.
+   */
+  @Deprecated
+  public static List<ConfigFile> processXmlConfiguration(XmlParsingConfiguration parsingConfiguration,
+                                                         ConfigParsingStatistics statistics) {
     List<ConfigFile> configFiles = new ArrayList<>();
     if (!ArrayUtils.isEmpty(parsingConfiguration.getArtifactConfigResources())) {
       List<Pair<String, Supplier<InputStream>>> initialConfigFiles = new ArrayList<>();
@@ -61,15 +77,33 @@ public class XmlConfigurationProcessor {
       }
 
 
-      recursivelyResolveConfigFiles(initialConfigFiles, configFiles, parsingConfiguration)
+      SymbolTable symbolTable = parsingConfiguration.isSharedSymbolTable()
+          ? SymbolTable.shared()
+          : SymbolTable.newSymbolTable();
+      // the shared table accounts for other parses as well, so only what changed during this one is added
+      long lookupsBefore = symbolTable.getLookups();
+      long deduplicatedBefore = symbolTable.getDeduplicated();
+      long bytesSavedBefore = symbolTable.getBytesSaved();
+      CompressedSourceStore sourceStore = parsingConfiguration.isCompressedSourceCode()
+          ? CompressedSourceStore.shared()
+          : null;
+      recursivelyResolveConfigFiles(initialConfigFiles, configFiles, parsingConfiguration, symbolTable, sourceStore)
           .forEach(configFiles::add);
+      if (sourceStore != null) {
+        sourceStore.flush();
+      }
+      statistics.add(symbolTable.getLookups() - lookupsBefore,
+                     symbolTable.getDeduplicated() - deduplicatedBefore,
+                     symbolTable.getBytesSaved() - bytesSavedBefore);
     }
     return unmodifiableList(configFiles);
   }
 
   private static List<ConfigFile> recursivelyResolveConfigFiles(List<Pair<String, Supplier<InputStream>>> configFilesToResolve,
                                                                 List<ConfigFile> alreadyResolvedConfigFiles,
-                                                                XmlParsingConfiguration parsingConfiguration) {
+                                                                XmlParsingConfiguration parsingConfiguration,
+                                                                SymbolTable symbolTable,
+                                                                CompressedSourceStore sourceStore) {
 
     ImmutableList.Builder<ConfigFile> resolvedConfigFilesBuilder =
         ImmutableList.<ConfigFile>builder().addAll(alreadyResolvedConfigFiles);
@@ -84,8 +118,9 @@ public class XmlConfigurationProcessor {
                 .loadDocument(parsingConfiguration.getSaxParserFactory(), parsingConfiguration.getEntityResolver(),
                               fileNameInputStreamPair.getFirst(), fileNameInputStreamPair.getSecond().get(),
                               getGrammarPool().orElse(null));
-            ConfigLine mainConfigLine = new XmlApplicationParser(parsingConfiguration.getXmlNamespaceInfoProvider())
-                .parse(document.getDocumentElement()).get();
+            ConfigLine mainConfigLine =
+                new XmlApplicationParser(parsingConfiguration.getXmlNamespaceInfoProvider(), symbolTable, sourceStore)
+                    .parse(document.getDocumentElement()).get();
             ConfigFile configFile = new ConfigFile(fileNameInputStreamPair.getFirst(), asList(mainConfigLine));
             resolvedConfigFilesBuilder.add(configFile);
           } finally {
@@ -147,7 +182,8 @@ public class XmlConfigurationProcessor {
         })
         .collect(toList());
 
-    return recursivelyResolveConfigFiles(newConfigFilesToResolved, resolvedConfigFilesBuilder.build(), parsingConfiguration);
+    return recursivelyResolveConfigFiles(newConfigFilesToResolved, resolvedConfigFilesBuilder.build(), parsingConfiguration,
+                                         symbolTable, sourceStore);
   }
 
 }
@@ -45,4 +45,29 @@ public interface XmlParsingConfiguration {
 
   List<XmlNamespaceInfoProvider> getXmlNamespaceInfoProvider();
 
+  /**
+   * Determines whether the namespaces, identifiers and attribute names of the parsed configuration are canonicalized against a
+   * process-wide symbol table, so that they are shared with other parsed configurations, instead of a symbol table for this parse
+   * only.
+   *
+   * @return {@code true} if a process-wide symbol table is to be used. {@code false} by default.
+   *
+   * @since 1.10
+   */
+  default boolean isSharedSymbolTable() {
+    return false;
+  }
+
+  /**
+   * Determines whether the source code of the parsed elements is kept compressed in memory, to be decompressed only when
+   * requested, instead of as plain strings.
+   *
+   * @return {@code true} if the source code is to be kept compressed. {@code false} by default.
+   *
+   * @since 1.10
+   */
+  default boolean isCompressedSourceCode() {
+    return false;
+  }
+
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.internal.component;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import org.mule.runtime.dsl.api.component.CommonTypeConverters;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Cache of the classes resolved by name from a classloader, as done by {@link CommonTypeConverters#stringToClassConverter()}.
+ * <p>
+ * The same class names are resolved over and over for the components of a configuration, and each {@link ClassLoader#loadClass}
+ * takes a lock and goes through the whole delegation chain. Names that could not be resolved are cached as well, since those
+ * fail the same way every time.
+ * <p>
+ * Classloaders are referenced weakly and so are the resolved classes, so this cache doesn't keep any classloader from being
+ * released.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @since 1.10
+ */
+public final class ClassResolutionCache {
+
+  /**
+   * Amount of names that could not be resolved to keep for each classloader.
+   */
+  public static final int DEFAULT_MAXIMUM_NOT_FOUND = 256;
+
+  private static final ClassResolutionCache SHARED = new ClassResolutionCache(DEFAULT_MAXIMUM_NOT_FOUND);
+
+  private final int maximumNotFound;
+  private final Cache<ClassLoader, Resolutions> resolutionsByClassLoader = newBuilder().weakKeys().build();
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder notFoundHitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  /**
+   * @return the process-wide cache used by {@link CommonTypeConverters#stringToClassConverter()}.
+   */
+  public static ClassResolutionCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * @param maximumNotFound amount of names that could not be resolved to keep for each classloader. Least recently used names
+   *                        are evicted beyond this.
+   */
+  public ClassResolutionCache(int maximumNotFound) {
+    checkArgument(maximumNotFound >= 0, "maximumNotFound cannot be negative");
+    this.maximumNotFound = maximumNotFound;
+  }
+
+  /**
+   * @param classLoader the classloader to resolve the class with.
+   * @param className   the binary name of the class.
+   * @return the class with the given name, as {@link ClassLoader#loadClass(String) loaded} by the given classloader.
+   * @throws ClassNotFoundException if the class could not be found, now or in a previous call for the same classloader.
+   */
+  public Class<?> resolve(ClassLoader classLoader, String className) throws ClassNotFoundException {
+    checkArgument(classLoader != null, "classLoader cannot be null");
+    checkArgument(className != null, "className cannot be null");
+
+    Resolutions resolutions = resolutionsByClassLoader.get(classLoader, cl -> new Resolutions(maximumNotFound));
+
+    Class<?> resolved = resolutions.classes.getIfPresent(className);
+    if (resolved != null) {
+      hitCount.increment();
+      return resolved;
+    }
+    if (resolutions.notFound.getIfPresent(className) != null) {
+      notFoundHitCount.increment();
+      throw new ClassNotFoundException(className);
+    }
+
+    missCount.increment();
+    try {
+      resolved = classLoader.loadClass(className);
+    } catch (ClassNotFoundException e) {
+      resolutions.notFound.put(className, Boolean.TRUE);
+      throw e;
+    }
+    resolutions.classes.put(className, resolved);
+    return resolved;
+  }
+
+  /**
+   * @return how many times a class was found in this cache.
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * @return how many times a name was found in this cache as not resolvable.
+   */
+  public long getNotFoundHitCount() {
+    return notFoundHitCount.sum();
+  }
+
+  /**
+   * @return how many times a class had to be loaded from the classloader because it was not in this cache.
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Removes the classes and names that could not be resolved cached for the given classloader, i.e.: if new classes may be
+   * available from it. Metrics are not reset.
+   *
+   * @param classLoader the classloader to remove the cached resolutions of.
+   */
+  public void invalidate(ClassLoader classLoader) {
+    resolutionsByClassLoader.invalidate(classLoader);
+  }
+
+  /**
+   * Removes all the cached resolutions. Metrics are not reset.
+   */
+  public void invalidateAll() {
+    resolutionsByClassLoader.invalidateAll();
+  }
+
+  private static final class Resolutions {
+
+    private final Cache<String, Class<?>> classes = newBuilder().weakValues().build();
+    private final Cache<String, Boolean> notFound;
+
+    private Resolutions(int maximumNotFound) {
+      this.notFound = newBuilder().maximumSize(maximumNotFound).build();
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.internal.component;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import static java.util.Locale.ROOT;
+
+import org.mule.runtime.dsl.api.component.CommonTypeConverters;
+import org.mule.runtime.dsl.api.component.InvalidEnumValueException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Lookup of the constants of an enum by name, as done by {@link CommonTypeConverters#stringToEnumConverter(Class)}.
+ * <p>
+ * The tables are built once per enum type and shared by all the converters for that type, so that a conversion is a single map
+ * lookup instead of going through {@link Enum#valueOf(Class, String)}, which throws an exception with a full stack trace for each
+ * invalid value.
+ *
+ * @param <E> the enum type.
+ *
+ * @since 1.10
+ */
+public final class EnumLookup<E extends Enum<E>> {
+
+  private static final ClassValue<EnumLookup<?>> LOOKUPS = new ClassValue<EnumLookup<?>>() {
+
+    @Override
+    protected EnumLookup<?> computeValue(Class<?> type) {
+      return new EnumLookup(type);
+    }
+  };
+
+  private final Class<E> enumType;
+  private final Map<String, E> byName;
+  private final Map<String, E> byUpperCaseName;
+
+  /**
+   * @param enumType the enum type.
+   * @return the lookup for the constants of the given enum type.
+   */
+  public static <E extends Enum<E>> EnumLookup<E> of(Class<E> enumType) {
+    checkArgument(enumType != null, "enumType cannot be null");
+    checkArgument(enumType.isEnum(), "enumType must be an enum");
+    return (EnumLookup<E>) LOOKUPS.get(enumType);
+  }
+
+  private EnumLookup(Class<E> enumType) {
+    this.enumType = enumType;
+
+    ImmutableMap.Builder<String, E> byName = ImmutableMap.builder();
+    Map<String, E> byUpperCaseName = new HashMap<>();
+    for (E constant : enumType.getEnumConstants()) {
+      byName.put(constant.name(), constant);
+      // if more than one constant has the same name ignoring case, the first one declared is matched
+      byUpperCaseName.putIfAbsent(constant.name().toUpperCase(ROOT), constant);
+    }
+    this.byName = byName.build();
+    this.byUpperCaseName = ImmutableMap.copyOf(byUpperCaseName);
+  }
+
+  /**
+   * @param name the name of the constant, as declared.
+   * @return the constant with the given name.
+   * @throws InvalidEnumValueException if there is no constant with the given name.
+   */
+  public E get(String name) {
+    E constant = byName.get(name);
+    if (constant == null) {
+      throw new InvalidEnumValueException(enumType, name);
+    }
+    return constant;
+  }
+
+  /**
+   * @param name the name of the constant, in any case.
+   * @return the constant with the given name, ignoring case. A constant whose name matches exactly takes precedence.
+   * @throws InvalidEnumValueException if there is no constant with the given name, ignoring case.
+   */
+  public E getIgnoreCase(String name) {
+    E constant = byName.get(name);
+    if (constant == null) {
+      constant = byUpperCaseName.get(name.toUpperCase(ROOT));
+      if (constant == null) {
+        throw new InvalidEnumValueException(enumType, name);
+      }
+    }
+    return constant;
+  }
+}
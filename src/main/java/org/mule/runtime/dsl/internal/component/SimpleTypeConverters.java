@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.internal.component;
+
+import static java.time.ZoneId.systemDefault;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_TIME;
+import static java.time.temporal.ChronoField.HOUR_OF_DAY;
+import static java.time.temporal.ChronoField.OFFSET_SECONDS;
+
+import org.mule.runtime.dsl.api.component.DslSimpleType;
+import org.mule.runtime.dsl.api.component.TypeConverter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Converters from the {@link String} value in a configuration to each of the {@link DslSimpleType simple types}, except enums.
+ * <p>
+ * Numbers are parsed straight into the primitive and boxed once. Date formatters are built once and shared.
+ *
+ * @see DslSimpleType#getSimpleTypeConverter(Class)
+ *
+ * @since 1.10
+ */
+public final class SimpleTypeConverters {
+
+  private static final DateTimeFormatter DATE_TIME_WITH_OPTIONAL_OFFSET = new DateTimeFormatterBuilder()
+      .append(ISO_LOCAL_DATE)
+      .optionalStart()
+      .appendLiteral('T')
+      .append(ISO_LOCAL_TIME)
+      .optionalEnd()
+      .optionalStart()
+      .appendOffsetId()
+      .optionalEnd()
+      .parseDefaulting(HOUR_OF_DAY, 0)
+      .toFormatter();
+
+  private static final TypeConverter<String, Byte> TO_BYTE = value -> Byte.parseByte(value);
+  private static final TypeConverter<String, Short> TO_SHORT = value -> Short.parseShort(value);
+  private static final TypeConverter<String, Integer> TO_INTEGER = value -> Integer.parseInt(value);
+  private static final TypeConverter<String, Long> TO_LONG = value -> Long.parseLong(value);
+  private static final TypeConverter<String, Float> TO_FLOAT = value -> Float.parseFloat(value);
+  private static final TypeConverter<String, Double> TO_DOUBLE = value -> Double.parseDouble(value);
+  private static final TypeConverter<String, Character> TO_CHARACTER = SimpleTypeConverters::toCharacter;
+
+  private static final Map<Class<?>, TypeConverter<String, ?>> CONVERTERS =
+      ImmutableMap.<Class<?>, TypeConverter<String, ?>>builder()
+          .put(Byte.class, TO_BYTE)
+          .put(byte.class, TO_BYTE)
+          .put(Short.class, TO_SHORT)
+          .put(short.class, TO_SHORT)
+          .put(Integer.class, TO_INTEGER)
+          .put(int.class, TO_INTEGER)
+          .put(Long.class, TO_LONG)
+          .put(long.class, TO_LONG)
+          .put(Character.class, TO_CHARACTER)
+          .put(char.class, TO_CHARACTER)
+          .put(Float.class, TO_FLOAT)
+          .put(float.class, TO_FLOAT)
+          .put(Double.class, TO_DOUBLE)
+          .put(double.class, TO_DOUBLE)
+          .put(BigDecimal.class, (TypeConverter<String, BigDecimal>) BigDecimal::new)
+          .put(BigInteger.class, (TypeConverter<String, BigInteger>) BigInteger::new)
+          .put(String.class, (TypeConverter<String, String>) value -> value)
+          .put(Date.class, (TypeConverter<String, Date>) value -> Date.from(toZonedDateTime(value).toInstant()))
+          .put(Calendar.class, (TypeConverter<String, Calendar>) value -> GregorianCalendar.from(toZonedDateTime(value)))
+          .put(LocalDate.class, (TypeConverter<String, LocalDate>) value -> LocalDate.parse(value, ISO_LOCAL_DATE))
+          .put(LocalDateTime.class,
+               (TypeConverter<String, LocalDateTime>) value -> LocalDateTime.parse(value, ISO_LOCAL_DATE_TIME))
+          .build();
+
+  /**
+   * @param type the type to convert to.
+   * @return the converter to the given type, or {@code null} if it is not a simple type or is an enum.
+   */
+  public static TypeConverter<String, ?> forType(Class<?> type) {
+    return CONVERTERS.get(type);
+  }
+
+  private static Character toCharacter(String value) {
+    if (value.length() != 1) {
+      throw new IllegalArgumentException("Expected a single character but got '" + value + "'");
+    }
+    return value.charAt(0);
+  }
+
+  private static ZonedDateTime toZonedDateTime(String value) {
+    TemporalAccessor parsed = DATE_TIME_WITH_OPTIONAL_OFFSET.parse(value);
+    LocalDateTime dateTime = LocalDateTime.from(parsed);
+    return parsed.isSupported(OFFSET_SECONDS)
+        ? dateTime.atZone(ZoneOffset.ofTotalSeconds(parsed.get(OFFSET_SECONDS)))
+        : dateTime.atZone(systemDefault());
+  }
+
+  private SimpleTypeConverters() {}
+}
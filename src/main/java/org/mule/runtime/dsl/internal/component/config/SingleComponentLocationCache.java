@@ -0,0 +1,109 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.internal.component.config;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import org.mule.runtime.dsl.api.component.config.DefaultComponentLocation;
+
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Bounded cache of the virtual locations created by {@link DefaultComponentLocation#from(String)} for a single component, keyed
+ * by the component string.
+ * <p>
+ * Those are requested over and over for a small set of component strings, so caching them avoids parsing the component
+ * identifier and building the location on each call. The cached locations are shared by all callers.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @since 1.10
+ */
+public final class SingleComponentLocationCache {
+
+  /**
+   * Amount of locations to keep.
+   */
+  public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+  private static final SingleComponentLocationCache SHARED = new SingleComponentLocationCache(DEFAULT_MAXIMUM_SIZE);
+
+  private final Cache<String, DefaultComponentLocation> locations;
+
+  /**
+   * @return the process-wide cache used by {@link DefaultComponentLocation#from(String)}.
+   */
+  public static SingleComponentLocationCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * @param maximumSize amount of locations to keep. Least recently used locations are evicted beyond this.
+   */
+  public SingleComponentLocationCache(int maximumSize) {
+    checkArgument(maximumSize >= 0, "maximumSize cannot be negative");
+    this.locations = newBuilder()
+        .maximumSize(maximumSize)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * @param component       the component string.
+   * @param locationFactory creates the location for {@code component} if not cached.
+   * @return the cached location for {@code component}.
+   */
+  public DefaultComponentLocation get(String component, Function<String, DefaultComponentLocation> locationFactory) {
+    return locations.get(component, locationFactory);
+  }
+
+  /**
+   * @return how many times a location was found in this cache.
+   */
+  public long getHitCount() {
+    return locations.stats().hitCount();
+  }
+
+  /**
+   * @return how many times a location had to be created because it was not in this cache.
+   */
+  public long getMissCount() {
+    return locations.stats().missCount();
+  }
+
+  /**
+   * @return the ratio of requests that found their location in this cache, or {@code 1.0} if there were no requests.
+   */
+  public double getHitRate() {
+    return locations.stats().hitRate();
+  }
+
+  /**
+   * @return how many locations were evicted from this cache because of its size limit.
+   */
+  public long getEvictionCount() {
+    return locations.stats().evictionCount();
+  }
+
+  /**
+   * Removes all the cached locations. Metrics are not reset.
+   */
+  public void invalidateAll() {
+    locations.invalidateAll();
+  }
+
+  /**
+   * Performs any pending maintenance, such as evictions, which may otherwise happen asynchronously.
+   */
+  public void cleanUp() {
+    locations.cleanUp();
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.internal.util;
+
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import static java.lang.Math.max;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.copyOf;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Keeps strings that are seldom read, such as the source code of the parsed elements, compressed in memory.
+ * <p>
+ * Stored strings are appended, UTF-8 encoded, to a chunk shared with other strings. Once a chunk is full it is compressed as a
+ * whole, which compresses much better than each string on its own given how repetitive the source of the elements of an
+ * application is. Each stored string is read through the {@link Supplier} returned when storing it, which decompresses its chunk
+ * only up to where the string ends. Recently read strings are kept decompressed in a small LRU cache.
+ * <p>
+ * Deflate streams can't be entered in the middle, so reading a string that is not cached inflates its chunk from the start. The
+ * cost of such a read is proportional to the offset of the string within its chunk, bounded by the chunk size, rather than to the
+ * length of the string. Smaller chunks make reads cheaper at the expense of a worse compression ratio.
+ * <p>
+ * Chunks are only referenced by the suppliers of the strings they contain, so a chunk is released once all of those are.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @since 1.10
+ */
+public final class CompressedSourceStore {
+
+  /**
+   * Amount of bytes of encoded strings to gather in a chunk before compressing it.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+  /**
+   * Amount of decompressed strings to keep.
+   */
+  public static final int DEFAULT_CACHE_SIZE = 256;
+
+  private static final CompressedSourceStore SHARED = new CompressedSourceStore(DEFAULT_CHUNK_SIZE, DEFAULT_CACHE_SIZE);
+
+  private final int chunkSize;
+  private final Cache<StoredString, String> decompressed;
+
+  private final LongAdder storedBytes = new LongAdder();
+  private final LongAdder compressedBytes = new LongAdder();
+  private final LongAdder decompressions = new LongAdder();
+
+  private Chunk currentChunk;
+
+  /**
+   * @return a process-wide store.
+   */
+  public static CompressedSourceStore shared() {
+    return SHARED;
+  }
+
+  /**
+   * @param chunkSize amount of bytes of encoded strings to gather in a chunk before compressing it.
+   * @param cacheSize amount of decompressed strings to keep.
+   */
+  public CompressedSourceStore(int chunkSize, int cacheSize) {
+    checkArgument(chunkSize > 0, "chunkSize must be positive");
+    checkArgument(cacheSize >= 0, "cacheSize cannot be negative");
+    this.chunkSize = chunkSize;
+    // weak keys, so cached strings don't keep their chunks from being released
+    this.decompressed = newBuilder()
+        .weakKeys()
+        .maximumSize(cacheSize)
+        .build();
+  }
+
+  /**
+   * @param value the string to store. May be {@code null}.
+   * @return a supplier of the stored string, or {@code null} if {@code value} is {@code null}.
+   */
+  public Supplier<String> store(String value) {
+    if (value == null) {
+      return null;
+    }
+
+    byte[] encoded = value.getBytes(UTF_8);
+    storedBytes.add(encoded.length);
+
+    synchronized (this) {
+      if (currentChunk == null || !currentChunk.fits(encoded.length)) {
+        if (currentChunk != null) {
+          compressedBytes.add(currentChunk.seal());
+        }
+        currentChunk = new Chunk(max(chunkSize, encoded.length));
+      }
+      return new StoredString(currentChunk, currentChunk.append(encoded), encoded.length);
+    }
+  }
+
+  /**
+   * Compresses the chunk being filled, if any, so that all the strings stored so far are kept compressed.
+   * <p>
+   * Strings stored afterwards go to a new chunk.
+   */
+  public synchronized void flush() {
+    if (currentChunk != null) {
+      compressedBytes.add(currentChunk.seal());
+      currentChunk = null;
+    }
+  }
+
+  /**
+   * @return the total size, in bytes, of the encoded strings stored so far.
+   */
+  public long getStoredBytes() {
+    return storedBytes.sum();
+  }
+
+  /**
+   * @return the total size, in bytes, of the chunks compressed so far.
+   */
+  public long getCompressedBytes() {
+    return compressedBytes.sum();
+  }
+
+  /**
+   * @return how many times a chunk had to be decompressed to read a string from it.
+   */
+  public long getDecompressions() {
+    return decompressions.sum();
+  }
+
+  private String read(StoredString storedString) {
+    return decompressed.get(storedString, key -> {
+      byte[] bytes = key.chunk.read(key.offset, key.length, decompressions);
+      return new String(bytes, key.offset, key.length, UTF_8);
+    });
+  }
+
+  private static final class Chunk {
+
+    // the encoded strings while the chunk is being filled, null once compressed
+    private byte[] content;
+    private int size;
+
+    private byte[] compressed;
+
+    private Chunk(int capacity) {
+      this.content = new byte[capacity];
+    }
+
+    private boolean fits(int length) {
+      return content != null && size + length <= content.length;
+    }
+
+    private synchronized int append(byte[] encoded) {
+      int offset = size;
+      System.arraycopy(encoded, 0, content, offset, encoded.length);
+      size += encoded.length;
+      return offset;
+    }
+
+    private synchronized int seal() {
+      Deflater deflater = new Deflater();
+      try {
+        deflater.setInput(content, 0, size);
+        deflater.finish();
+        byte[] output = new byte[max(64, size / 2)];
+        int outputSize = 0;
+        while (!deflater.finished()) {
+          if (outputSize == output.length) {
+            output = copyOf(output, output.length * 2);
+          }
+          outputSize += deflater.deflate(output, outputSize, output.length - outputSize);
+        }
+        compressed = copyOf(output, outputSize);
+        content = null;
+        return outputSize;
+      } finally {
+        deflater.end();
+      }
+    }
+
+    /**
+     * @return a buffer that holds the requested bytes at the requested offset.
+     */
+    private synchronized byte[] read(int offset, int length, LongAdder decompressions) {
+      if (content != null) {
+        return content;
+      }
+
+      decompressions.increment();
+      // only inflate up to the end of the requested string
+      byte[] output = new byte[offset + length];
+      Inflater inflater = new Inflater();
+      try {
+        inflater.setInput(compressed);
+        int outputSize = 0;
+        while (outputSize < output.length) {
+          int inflated = inflater.inflate(output, outputSize, output.length - outputSize);
+          if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+            throw new MuleRuntimeException(createStaticMessage("Compressed source chunk is truncated"));
+          }
+          outputSize += inflated;
+        }
+        return output;
+      } catch (DataFormatException e) {
+        throw new MuleRuntimeException(createStaticMessage("Compressed source chunk is corrupted"), e);
+      } finally {
+        inflater.end();
+      }
+    }
+  }
+
+  private final class StoredString implements Supplier<String> {
+
+    private final Chunk chunk;
+    private final int offset;
+    private final int length;
+
+    private StoredString(Chunk chunk, int offset, int length) {
+      this.chunk = chunk;
+      this.offset = offset;
+      this.length = length;
+    }
+
+    @Override
+    public String get() {
+      return read(this);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.internal.util;
+
+import static java.util.Arrays.binarySearch;
+import static java.util.Arrays.sort;
+import static java.util.Collections.emptyMap;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable {@link Map} with {@link String} keys, backed by a sorted array of keys and a parallel array of values.
+ * <p>
+ * Meant for the small maps that are created in large numbers while parsing a configuration (i.e.: the attributes of each
+ * element), where the footprint of a {@link java.util.HashMap} and its entries is significant. Lookups are done with a binary
+ * search over the keys.
+ * <p>
+ * Equality and hash code follow the contract of {@link Map}, so instances of this class are equal to any other {@link Map} with
+ * the same mappings.
+ *
+ * @param <V> the type of the values of the map.
+ *
+ * @since 1.10
+ */
+public final class SortedArrayMap<V> extends AbstractMap<String, V> {
+
+  private final String[] keys;
+  private final Object[] values;
+
+  /**
+   * Creates an immutable copy of the given {@code map}.
+   *
+   * @param map the map to copy. Keys must not be {@code null}.
+   * @return an immutable map with the same mappings as the given {@code map}.
+   */
+  public static <V> Map<String, V> copyOf(Map<String, ? extends V> map) {
+    if (map.isEmpty()) {
+      return emptyMap();
+    }
+
+    String[] keys = map.keySet().toArray(new String[map.size()]);
+    sort(keys);
+    Object[] values = new Object[keys.length];
+    for (int i = 0; i < keys.length; ++i) {
+      values[i] = map.get(keys[i]);
+    }
+    return new SortedArrayMap<>(keys, values);
+  }
+
+  private SortedArrayMap(String[] keys, Object[] values) {
+    this.keys = keys;
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return keys.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return keys.length == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public V get(Object key) {
+    int index = indexOf(key);
+    return index >= 0 ? valueAt(index) : null;
+  }
+
+  private int indexOf(Object key) {
+    if (!(key instanceof String)) {
+      return -1;
+    }
+    return binarySearch(keys, key);
+  }
+
+  private V valueAt(int index) {
+    return (V) values[index];
+  }
+
+  @Override
+  public Set<Entry<String, V>> entrySet() {
+    return new AbstractSet<Entry<String, V>>() {
+
+      @Override
+      public Iterator<Entry<String, V>> iterator() {
+        return new Iterator<Entry<String, V>>() {
+
+          private int index = 0;
+
+          @Override
+          public boolean hasNext() {
+            return index < keys.length;
+          }
+
+          @Override
+          public Entry<String, V> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            Entry<String, V> entry = new SimpleImmutableEntry<>(keys[index], valueAt(index));
+            index++;
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return keys.length;
+      }
+    };
+  }
+}
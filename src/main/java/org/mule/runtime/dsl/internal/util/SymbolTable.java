@@ -0,0 +1,123 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.internal.util;
+
+import static java.util.function.Function.identity;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Canonicalizes the strings that are repeated across the elements of a configuration (namespaces, namespace URIs, identifiers
+ * and attribute names), so that all the {@link org.mule.runtime.dsl.api.xml.parser.ConfigLine}s of a configuration share the
+ * same instances.
+ * <p>
+ * A symbol table may be scoped to a single parse ({@link #newSymbolTable()}), in which case it is discarded along with the parser
+ * that uses it, or process-wide ({@link #shared()}), in which case its symbols are weakly referenced so they are released when no
+ * longer used by any configuration.
+ * <p>
+ * Keeps track of how many strings were replaced by a canonical instance and an estimate of the memory that was saved by doing so.
+ *
+ * @since 1.10
+ */
+public final class SymbolTable {
+
+  // Estimates for a 64-bit JVM with compressed oops and compact strings.
+  private static final int STRING_SHALLOW_SIZE = 24;
+  private static final int ARRAY_HEADER_SIZE = 16;
+
+  private static final SymbolTable SHARED = new SymbolTable(weakInterner());
+
+  private final UnaryOperator<String> interner;
+
+  private final LongAdder lookups = new LongAdder();
+  private final LongAdder deduplicated = new LongAdder();
+  private final LongAdder bytesSaved = new LongAdder();
+
+  /**
+   * Creates a symbol table to be used for a single parse. The returned table is not thread-safe.
+   *
+   * @return a new, empty, symbol table.
+   */
+  public static SymbolTable newSymbolTable() {
+    Map<String, String> symbols = new HashMap<>();
+    return new SymbolTable(symbol -> symbols.computeIfAbsent(symbol, identity()));
+  }
+
+  /**
+   * @return the process-wide symbol table. The returned table is thread-safe.
+   */
+  public static SymbolTable shared() {
+    return SHARED;
+  }
+
+  private static UnaryOperator<String> weakInterner() {
+    Interner<String> interner = Interners.newWeakInterner();
+    return interner::intern;
+  }
+
+  private SymbolTable(UnaryOperator<String> interner) {
+    this.interner = interner;
+  }
+
+  /**
+   * @param symbol the string to canonicalize. May be {@code null}.
+   * @return a string equal to the given {@code symbol}, shared with every other equal string canonicalized by this table.
+   */
+  public String canonicalize(String symbol) {
+    if (symbol == null) {
+      return null;
+    }
+
+    lookups.increment();
+    String canonical = interner.apply(symbol);
+    if (canonical != symbol) {
+      deduplicated.increment();
+      bytesSaved.add(estimateSize(symbol));
+    }
+    return canonical;
+  }
+
+  private static long estimateSize(String symbol) {
+    int bytesPerChar = 1;
+    for (int i = 0; i < symbol.length(); ++i) {
+      if (symbol.charAt(i) > 0xFF) {
+        bytesPerChar = 2;
+        break;
+      }
+    }
+    long arraySize = ARRAY_HEADER_SIZE + (long) symbol.length() * bytesPerChar;
+    // objects are 8 bytes aligned
+    return STRING_SHALLOW_SIZE + ((arraySize + 7) & ~7L);
+  }
+
+  /**
+   * @return how many strings were passed to {@link #canonicalize(String)}.
+   */
+  public long getLookups() {
+    return lookups.sum();
+  }
+
+  /**
+   * @return how many strings passed to {@link #canonicalize(String)} were replaced with an already existing equal instance.
+   */
+  public long getDeduplicated() {
+    return deduplicated.sum();
+  }
+
+  /**
+   * @return an estimate of the heap, in bytes, that was saved by replacing strings with their canonical instance.
+   */
+  public long getBytesSaved() {
+    return bytesSaved.sum();
+  }
+}
@@ -6,31 +6,42 @@
  */
 package org.mule.runtime.dsl.internal.xml.parser;
 
-import static java.lang.String.format;
 import static java.lang.System.lineSeparator;
-import static java.util.regex.Pattern.compile;
-import static java.util.regex.Pattern.quote;
 
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+
+import org.xml.sax.Attributes;
 
 /**
  * Stores the metadata annotations from the XML parser so they are available when building the actual objects of the application.
  */
 public class DefaultXmlMetadataAnnotations implements XmlMetadataAnnotations {
 
-  private static final Pattern URL_PATTERN = compile("url=\"[a-z]*://([^@]*)@");
-  private static final Pattern ADDRESS_PATTERN = compile("address=\"[a-z]*://([^@]*)@");
-  private static final Pattern PASSWORD_PATTERN = compile("password=\"([^\"|\n]*)\"");
-  private static final String PASSWORD_MASK = "@@credentials@@";
-  private static final String PASSWORD_ATTRIBUTE_MASK = "password=\"%s\"";
+  private final SensitiveAttributeMasker masker;
+
+  // only allocated when the source of the element is captured
+  private StringBuilder xmlContent;
 
-  private final StringBuilder xmlContent = new StringBuilder();
+  // Each position is packed into a long, with the line in the high half and the column in the low half, so no objects are
+  // needed for the tag boundaries. TagBoundaries are only created as views over these when requested.
+  private long openingTagStart;
+  private long openingTagEnd;
+  private long closingTagStart;
+  private long closingTagEnd;
 
-  private final TagBoundaries openingTagBoundaries = new DefaultTagBoundaries();
-  private final TagBoundaries closingTagBoundaries = new DefaultTagBoundaries();
+  public DefaultXmlMetadataAnnotations() {
+    this(SensitiveAttributeMasker.getDefault());
+  }
+
+  /**
+   * @param masker the masker to use for the values of the attributes that may contain credentials.
+   *
+   * @since 1.10
+   */
+  public DefaultXmlMetadataAnnotations(SensitiveAttributeMasker masker) {
+    this.masker = masker;
+  }
 
   /**
    * Builds the opening tag of the xml element.
@@ -40,20 +51,27 @@ public class DefaultXmlMetadataAnnotations implements XmlMetadataAnnotations {
    */
   @Override
   public void appendElementStart(String qName, Map<String, String> atts) {
-    xmlContent.append("<")
+    xmlContent().append("<")
         .append(qName);
     for (Entry<String, String> entry : atts.entrySet()) {
-      if (entry.getKey().equals("url")
-          || entry.getKey().equals("address")
-          || entry.getKey().equals("password")) {
-        xmlContent.append(maskPasswords(" " + entry.getKey() + "=\"" + entry.getValue() + "\""));
-      } else {
-        xmlContent.append(" ")
-            .append(entry.getKey())
-            .append("=\"")
-            .append(entry.getValue())
-            .append("\"");
-      }
+      masker.appendAttribute(xmlContent, entry.getKey(), entry.getValue());
+    }
+
+    xmlContent.append(">");
+  }
+
+  /**
+   * Builds the opening tag of the xml element, without copying the attributes.
+   *
+   * @param qName the qualified name of the element
+   * @param atts  the attributes of the element
+   */
+  @Override
+  public void appendElementStart(String qName, Attributes atts) {
+    xmlContent().append("<")
+        .append(qName);
+    for (int i = 0; i < atts.getLength(); ++i) {
+      masker.appendAttribute(xmlContent, atts.getQName(i), atts.getValue(i));
     }
 
     xmlContent.append(">");
@@ -66,16 +84,17 @@ public class DefaultXmlMetadataAnnotations implements XmlMetadataAnnotations {
    */
   @Override
   public void appendElementBody(String elementBody) {
+    final StringBuilder content = xmlContent();
     final String trimmedBody = elementBody.trim();
     if (trimmedBody.startsWith("<") && trimmedBody.endsWith(">")) {
-      if (xmlContent.charAt(xmlContent.length() - 1) == '>') {
-        xmlContent.append(lineSeparator());
+      if (content.charAt(content.length() - 1) == '>') {
+        content.append(lineSeparator());
       }
 
-      xmlContent.append(trimmedBody)
+      content.append(trimmedBody)
           .append(lineSeparator());
     } else {
-      xmlContent.append(trimmedBody);
+      content.append(trimmedBody);
     }
 
   }
@@ -87,7 +106,7 @@ public class DefaultXmlMetadataAnnotations implements XmlMetadataAnnotations {
    */
   @Override
   public void appendElementEnd(String qName) {
-    xmlContent.append("</")
+    xmlContent().append("</")
         .append(qName)
         .append(">");
   }
@@ -96,11 +115,30 @@ public class DefaultXmlMetadataAnnotations implements XmlMetadataAnnotations {
    * @return the reconstruction of the declaration of the element in its source xml file.
    *         <p/>
    *         Note that the order of the elements may be different, and any implicit attributes with default values will be
-   *         included.
+   *         included. {@code null} if the source of the element was not captured.
    */
   @Override
   public String getElementString() {
-    return xmlContent.toString();
+    return xmlContent == null ? null : xmlContent.toString();
+  }
+
+  private StringBuilder xmlContent() {
+    if (xmlContent == null) {
+      xmlContent = new StringBuilder();
+    }
+    return xmlContent;
+  }
+
+  @Override
+  public void setOpeningTagBoundaries(int startLineNumber, int startColumnNumber, int endLineNumber, int endColumnNumber) {
+    openingTagStart = pack(startLineNumber, startColumnNumber);
+    openingTagEnd = pack(endLineNumber, endColumnNumber);
+  }
+
+  @Override
+  public void setClosingTagBoundaries(int startLineNumber, int startColumnNumber, int endLineNumber, int endColumnNumber) {
+    closingTagStart = pack(startLineNumber, startColumnNumber);
+    closingTagEnd = pack(endLineNumber, endColumnNumber);
   }
 
   /**
@@ -109,8 +147,7 @@ public class DefaultXmlMetadataAnnotations implements XmlMetadataAnnotations {
    */
   @Override
   public boolean isSelfClosing() {
-    return openingTagBoundaries.getStartLineNumber() == closingTagBoundaries.getStartLineNumber() &&
-        openingTagBoundaries.getStartColumnNumber() == closingTagBoundaries.getStartColumnNumber();
+    return openingTagStart == closingTagStart;
   }
 
   /**
@@ -118,7 +155,7 @@ public class DefaultXmlMetadataAnnotations implements XmlMetadataAnnotations {
    */
   @Override
   public TagBoundaries getOpeningTagBoundaries() {
-    return openingTagBoundaries;
+    return new TagBoundariesView(false);
   }
 
   /**
@@ -126,83 +163,106 @@ public class DefaultXmlMetadataAnnotations implements XmlMetadataAnnotations {
    */
   @Override
   public TagBoundaries getClosingTagBoundaries() {
-    return closingTagBoundaries;
+    return new TagBoundariesView(true);
   }
 
-  private static String maskPasswords(String xml, String passwordMask) {
-    xml = maskUrlPassword(xml, URL_PATTERN, passwordMask);
-    xml = maskUrlPassword(xml, ADDRESS_PATTERN, passwordMask);
+  @Override
+  public int getOpeningTagStartLineNumber() {
+    return line(openingTagStart);
+  }
 
-    Matcher matcher = PASSWORD_PATTERN.matcher(xml);
-    if (matcher.find() && matcher.groupCount() > 0) {
-      xml = xml.replaceAll(quote(maskPasswordAttribute(matcher.group(1))), maskPasswordAttribute(passwordMask));
-    }
-    xml = maskUrlPassword(xml, PASSWORD_PATTERN, passwordMask);
+  @Override
+  public int getOpeningTagStartColumnNumber() {
+    return column(openingTagStart);
+  }
 
-    return xml;
+  @Override
+  public int getClosingTagEndLineNumber() {
+    return line(closingTagEnd);
   }
 
-  private static String maskPasswords(String xml) {
-    return maskPasswords(xml, PASSWORD_MASK);
+  private static long pack(int line, int column) {
+    return ((long) line << 32) | (column & 0xFFFFFFFFL);
   }
 
-  private static String maskUrlPassword(String xml, Pattern pattern, String passwordMask) {
-    Matcher matcher = pattern.matcher(xml);
-    if (matcher.find() && matcher.groupCount() > 0) {
-      xml = xml.replaceAll(quote(matcher.group(1)), passwordMask);
-    }
-    return xml;
+  private static int line(long position) {
+    return (int) (position >> 32);
   }
 
-  private static String maskPasswordAttribute(String password) {
-    return format(PASSWORD_ATTRIBUTE_MASK, password);
+  private static int column(long position) {
+    return (int) position;
   }
 
-  private static class DefaultTagBoundaries implements TagBoundaries {
+  private final class TagBoundariesView implements TagBoundaries {
+
+    private final boolean closing;
 
-    private int startLineNumber;
-    private int startColumnNumber;
-    private int endLineNumber;
-    private int endColumnNumber;
+    private TagBoundariesView(boolean closing) {
+      this.closing = closing;
+    }
+
+    private long start() {
+      return closing ? closingTagStart : openingTagStart;
+    }
+
+    private void setStart(long position) {
+      if (closing) {
+        closingTagStart = position;
+      } else {
+        openingTagStart = position;
+      }
+    }
+
+    private long end() {
+      return closing ? closingTagEnd : openingTagEnd;
+    }
+
+    private void setEnd(long position) {
+      if (closing) {
+        closingTagEnd = position;
+      } else {
+        openingTagEnd = position;
+      }
+    }
 
     @Override
     public int getStartLineNumber() {
-      return startLineNumber;
+      return line(start());
     }
 
     @Override
     public void setStartLineNumber(int lineNumber) {
-      this.startLineNumber = lineNumber;
+      setStart(pack(lineNumber, column(start())));
     }
 
     @Override
     public int getStartColumnNumber() {
-      return startColumnNumber;
+      return column(start());
     }
 
     @Override
     public void setStartColumnNumber(int columnNumber) {
-      this.startColumnNumber = columnNumber;
+      setStart(pack(line(start()), columnNumber));
     }
 
     @Override
     public int getEndLineNumber() {
-      return endLineNumber;
+      return line(end());
     }
 
     @Override
     public void setEndLineNumber(int lineNumber) {
-      this.endLineNumber = lineNumber;
+      setEnd(pack(lineNumber, column(end())));
     }
 
     @Override
     public int getEndColumnNumber() {
-      return endColumnNumber;
+      return column(end());
     }
 
     @Override
     public void setEndColumnNumber(int columnNumber) {
-      this.endColumnNumber = columnNumber;
+      setEnd(pack(line(end()), columnNumber));
     }
   }
 }
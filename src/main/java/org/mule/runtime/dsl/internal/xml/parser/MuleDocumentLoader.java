@@ -7,23 +7,20 @@
 package org.mule.runtime.dsl.internal.xml.parser;
 
 import static org.mule.runtime.api.util.classloader.MuleImplementationLoaderUtils.getMuleImplementationsLoader;
+import static org.mule.runtime.dsl.api.xml.parser.MetadataCaptureLevel.FULL_SOURCE;
+import static org.mule.runtime.dsl.api.xml.parser.MetadataCaptureLevel.NONE;
 import static org.mule.runtime.dsl.internal.xml.parser.XmlMetadataAnnotations.METADATA_ANNOTATIONS_KEY;
 
 import static java.lang.System.lineSeparator;
 import static java.lang.Thread.currentThread;
 
-import static org.apache.commons.lang3.StringUtils.isEmpty;
-
-import org.mule.runtime.dsl.internal.SourcePosition;
-import org.mule.runtime.dsl.internal.xml.parser.XmlMetadataAnnotations.TagBoundaries;
+import org.mule.runtime.dsl.api.xml.parser.MetadataCaptureLevel;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.LinkedHashMap;
-import java.util.Map;
 import java.util.function.Supplier;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -69,9 +66,32 @@ final public class MuleDocumentLoader {
   };
 
   private final XmlMetadataAnnotationsFactory metadataFactory;
+  private final MetadataCaptureLevel metadataCaptureLevel;
 
   public MuleDocumentLoader() {
-    this.metadataFactory = new DefaultXmlMetadataFactory();
+    this(SensitiveAttributeMasker.getDefault());
+  }
+
+  /**
+   * @param masker the masker to use for the values of the attributes that may contain credentials when building the source of
+   *               each element.
+   *
+   * @since 1.10
+   */
+  public MuleDocumentLoader(SensitiveAttributeMasker masker) {
+    this(masker, FULL_SOURCE);
+  }
+
+  /**
+   * @param masker               the masker to use for the values of the attributes that may contain credentials when building the
+   *                             source of each element.
+   * @param metadataCaptureLevel how much metadata to capture for each element of the loaded documents.
+   *
+   * @since 1.10
+   */
+  public MuleDocumentLoader(SensitiveAttributeMasker masker, MetadataCaptureLevel metadataCaptureLevel) {
+    this.metadataFactory = new DefaultXmlMetadataFactory(masker);
+    this.metadataCaptureLevel = metadataCaptureLevel;
   }
 
   /**
@@ -86,6 +106,14 @@ final public class MuleDocumentLoader {
     try {
       thread.setContextClassLoader(getMuleImplementationsLoader());
 
+      DocumentBuilderFactory factory = this.createDocumentBuilderFactory(validationMode, namespaceAware, xmlGrammarPool);
+      DocumentBuilder builder = this.createDocumentBuilder(factory, entityResolver, errorHandler);
+
+      if (metadataCaptureLevel == NONE) {
+        // no need to keep the content for a second pass
+        return builder.parse(inputSource);
+      }
+
       ByteArrayOutputStream output = new ByteArrayOutputStream();
       try (InputStream inputStream = inputSource.getByteStream()) {
         IOUtils.copy(inputStream, output);
@@ -94,8 +122,6 @@ final public class MuleDocumentLoader {
       InputSource defaultInputSource = new InputSource(new ByteArrayInputStream(output.toByteArray()));
       InputSource enrichInputSource = new InputSource(new ByteArrayInputStream(output.toByteArray()));
 
-      DocumentBuilderFactory factory = this.createDocumentBuilderFactory(validationMode, namespaceAware, xmlGrammarPool);
-      DocumentBuilder builder = this.createDocumentBuilder(factory, entityResolver, errorHandler);
       Document doc = builder.parse(defaultInputSource);
       createSaxAnnotator(saxParserFactorySupplier, doc).parse(enrichInputSource);
 
@@ -111,7 +137,7 @@ final public class MuleDocumentLoader {
     SAXParser saxParser = saxParserFactory.newSAXParser();
     XMLReader documentReader = saxParser.getXMLReader();
     documentReader.setFeature(SCHEMA_AUGMENT_PSVI_FEATURE, false);
-    documentReader.setContentHandler(new XmlMetadataAnnotator(doc, metadataFactory));
+    documentReader.setContentHandler(new XmlMetadataAnnotator(doc, metadataFactory, metadataCaptureLevel == FULL_SOURCE));
     return documentReader;
   }
 
@@ -152,11 +178,17 @@ final public class MuleDocumentLoader {
     return validationMode != 0;
   }
 
-  private final class DefaultXmlMetadataFactory implements XmlMetadataAnnotationsFactory {
+  private static final class DefaultXmlMetadataFactory implements XmlMetadataAnnotationsFactory {
+
+    private final SensitiveAttributeMasker masker;
+
+    private DefaultXmlMetadataFactory(SensitiveAttributeMasker masker) {
+      this.masker = masker;
+    }
 
     @Override
     public XmlMetadataAnnotations create(Locator locator) {
-      return new DefaultXmlMetadataAnnotations();
+      return new DefaultXmlMetadataAnnotations(masker);
     }
 
   }
@@ -187,16 +219,20 @@ final public class MuleDocumentLoader {
     private Locator locator;
     private DomWalkerElement walker;
     private final XmlMetadataAnnotationsFactory metadataFactory;
+    private final boolean captureSource;
     private final Deque<XmlMetadataAnnotations> annotationsStack = new ArrayDeque<>();
-    private SourcePosition trackingPoint = new SourcePosition();
+    // kept as primitives rather than a position object, since they are updated on almost every callback
+    private int trackingLine = 1;
+    private int trackingColumn = 1;
     private boolean writingBody = false;
 
     // we use this flag to know if our trackingPoint is currently pointing past the start of markup characters (< or </)
     private boolean startOfMarkupConsumed = false;
 
-    private XmlMetadataAnnotator(Document doc, XmlMetadataAnnotationsFactory metadataFactory) {
+    private XmlMetadataAnnotator(Document doc, XmlMetadataAnnotationsFactory metadataFactory, boolean captureSource) {
       this.walker = new DomWalkerElement(doc.getDocumentElement());
       this.metadataFactory = metadataFactory;
+      this.captureSource = captureSource;
     }
 
     @Override
@@ -212,15 +248,11 @@ final public class MuleDocumentLoader {
 
       XmlMetadataAnnotations metadataBuilder = metadataFactory.create(locator);
       int trackingPointOffset = getTrackingPointOffsetForStartElement();
-      metadataBuilder.getOpeningTagBoundaries().setStartLineNumber(trackingPoint.getLine());
-      metadataBuilder.getOpeningTagBoundaries().setStartColumnNumber(trackingPoint.getColumn() - trackingPointOffset);
-      metadataBuilder.getOpeningTagBoundaries().setEndLineNumber(locator.getLineNumber());
-      metadataBuilder.getOpeningTagBoundaries().setEndColumnNumber(locator.getColumnNumber());
-      final Map<String, String> attsMap = new LinkedHashMap<>();
-      for (int i = 0; i < atts.getLength(); ++i) {
-        attsMap.put(atts.getQName(i), atts.getValue(i));
+      metadataBuilder.setOpeningTagBoundaries(trackingLine, trackingColumn - trackingPointOffset,
+                                              locator.getLineNumber(), locator.getColumnNumber());
+      if (captureSource) {
+        metadataBuilder.appendElementStart(qName, atts);
       }
-      metadataBuilder.appendElementStart(qName, attsMap);
       annotationsStack.push(metadataBuilder);
     }
 
@@ -235,16 +267,28 @@ final public class MuleDocumentLoader {
       // update the starting point
       this.updateTrackingPoint();
 
-      final String body = new String(ch, start, length).trim();
+      if (!captureSource) {
+        return;
+      }
+
+      // same bounds as String#trim, found without creating a string for whitespace-only chunks
+      int bodyStart = start;
+      int bodyEnd = start + length;
+      while (bodyStart < bodyEnd && ch[bodyStart] <= ' ') {
+        bodyStart++;
+      }
+      while (bodyEnd > bodyStart && ch[bodyEnd - 1] <= ' ') {
+        bodyEnd--;
+      }
 
-      if (!isEmpty(body)) {
+      if (bodyStart < bodyEnd) {
         if (!writingBody) {
           annotationsStack.peek()
               .appendElementBody("<![CDATA[" + lineSeparator());
         }
 
         annotationsStack.peek()
-            .appendElementBody(body);
+            .appendElementBody(new String(ch, bodyStart, bodyEnd - bodyStart));
         writingBody = true;
       }
     }
@@ -263,13 +307,13 @@ final public class MuleDocumentLoader {
       writingBody = false;
       XmlMetadataAnnotations metadataAnnotations = annotationsStack.pop();
       int trackingPointOffset = getTrackingPointOffsetForEndElement(metadataAnnotations);
-      metadataAnnotations.getClosingTagBoundaries().setStartLineNumber(trackingPoint.getLine());
-      metadataAnnotations.getClosingTagBoundaries().setStartColumnNumber(trackingPoint.getColumn() - trackingPointOffset);
-      metadataAnnotations.getClosingTagBoundaries().setEndLineNumber(locator.getLineNumber());
-      metadataAnnotations.getClosingTagBoundaries().setEndColumnNumber(locator.getColumnNumber());
-      metadataAnnotations.appendElementEnd(qName);
+      metadataAnnotations.setClosingTagBoundaries(trackingLine, trackingColumn - trackingPointOffset,
+                                                  locator.getLineNumber(), locator.getColumnNumber());
+      if (captureSource) {
+        metadataAnnotations.appendElementEnd(qName);
+      }
 
-      if (!annotationsStack.isEmpty()) {
+      if (captureSource && !annotationsStack.isEmpty()) {
         XmlMetadataAnnotations xmlMetadataAnnotations = annotationsStack.peek();
 
         xmlMetadataAnnotations
@@ -284,9 +328,11 @@ final public class MuleDocumentLoader {
     }
 
     private void updateTrackingPoint() {
-      SourcePosition item = new SourcePosition(locator.getLineNumber(), locator.getColumnNumber());
-      if (this.trackingPoint.compareTo(item) < 0) {
-        this.trackingPoint = item;
+      int line = locator.getLineNumber();
+      int column = locator.getColumnNumber();
+      if (trackingLine < line || (trackingLine == line && trackingColumn < column)) {
+        trackingLine = line;
+        trackingColumn = column;
       }
     }
 
@@ -304,9 +350,8 @@ final public class MuleDocumentLoader {
       // checks if the current tracking point is still at the same place of the opening tag starting point
       // if so, it means the element was written as a self-closing tag (e.g.: <element />), which means we should use
       // the same offset as for an opening.
-      TagBoundaries openingTagBoundaries = metadataAnnotations.getOpeningTagBoundaries();
-      if (openingTagBoundaries.getStartLineNumber() == trackingPoint.getLine() &&
-          openingTagBoundaries.getStartColumnNumber() == trackingPoint.getColumn() - OPENING_TRACKING_POINT_OFFSET) {
+      if (metadataAnnotations.getOpeningTagStartLineNumber() == trackingLine &&
+          metadataAnnotations.getOpeningTagStartColumnNumber() == trackingColumn - OPENING_TRACKING_POINT_OFFSET) {
         return OPENING_TRACKING_POINT_OFFSET;
       }
 
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.internal.xml.parser;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Writes the attributes of an element into its reconstructed source, masking the values that may contain credentials.
+ * <p>
+ * The value of a sensitive attribute (i.e.: {@code password}) is fully masked. For an attribute that holds a URL (i.e.:
+ * {@code url} or {@code address}), only the user info is masked: for a value with a scheme of lowercase letters followed by
+ * {@code ://}, everything from there up to the first {@code @} is masked.
+ * <p>
+ * Values are scanned once and written directly into the output, without intermediate strings.
+ *
+ * @since 1.10
+ */
+public final class SensitiveAttributeMasker {
+
+  public static final String DEFAULT_MASK = "@@credentials@@";
+  public static final Set<String> DEFAULT_SENSITIVE_ATTRIBUTES = singleton("password");
+  public static final Set<String> DEFAULT_URL_ATTRIBUTES = unmodifiableSet(new HashSet<>(asList("url", "address")));
+
+  private static final SensitiveAttributeMasker DEFAULT =
+      new SensitiveAttributeMasker(DEFAULT_SENSITIVE_ATTRIBUTES, DEFAULT_URL_ATTRIBUTES, DEFAULT_MASK);
+
+  private static final String SCHEME_SEPARATOR = "://";
+
+  private final Set<String> sensitiveAttributes;
+  private final Set<String> urlAttributes;
+  private final String mask;
+
+  /**
+   * @return a masker for the {@code password} attribute and the user info of the {@code url} and {@code address} attributes.
+   */
+  public static SensitiveAttributeMasker getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * @param sensitiveAttributes the names of the attributes whose value is to be fully masked.
+   * @param urlAttributes       the names of the attributes holding a URL whose user info is to be masked.
+   * @param mask                the string to write in place of the masked values.
+   */
+  public SensitiveAttributeMasker(Set<String> sensitiveAttributes, Set<String> urlAttributes, String mask) {
+    checkArgument(sensitiveAttributes != null, "sensitiveAttributes cannot be null");
+    checkArgument(urlAttributes != null, "urlAttributes cannot be null");
+    checkArgument(mask != null, "mask cannot be null");
+    this.sensitiveAttributes = new HashSet<>(sensitiveAttributes);
+    this.urlAttributes = new HashSet<>(urlAttributes);
+    this.mask = mask;
+  }
+
+  /**
+   * Appends {@code  name="value"} to the given {@code output}, masking the value if needed.
+   *
+   * @param output the buffer to write the attribute to.
+   * @param name   the qualified name of the attribute.
+   * @param value  the value of the attribute.
+   */
+  public void appendAttribute(StringBuilder output, String name, String value) {
+    output.append(' ').append(name).append("=\"");
+    if (sensitiveAttributes.contains(name)) {
+      output.append(mask);
+    } else if (urlAttributes.contains(name)) {
+      appendMaskedUrl(output, value);
+    } else {
+      output.append(value);
+    }
+    output.append('"');
+  }
+
+  private void appendMaskedUrl(StringBuilder output, String value) {
+    int schemeEnd = 0;
+    while (schemeEnd < value.length() && value.charAt(schemeEnd) >= 'a' && value.charAt(schemeEnd) <= 'z') {
+      schemeEnd++;
+    }
+
+    if (value.startsWith(SCHEME_SEPARATOR, schemeEnd)) {
+      int userInfoStart = schemeEnd + SCHEME_SEPARATOR.length();
+      int userInfoEnd = value.indexOf('@', userInfoStart);
+      if (userInfoEnd >= 0) {
+        output.append(value, 0, userInfoStart)
+            .append(mask)
+            .append(value, userInfoEnd, value.length());
+        return;
+      }
+    }
+
+    output.append(value);
+  }
+}
@@ -11,7 +11,11 @@ import static org.mule.runtime.dsl.api.xml.parser.XmlApplicationParser.IS_CDATA;
 
 import org.mule.runtime.dsl.api.xml.XmlNamespaceInfoProvider;
 import org.mule.runtime.dsl.api.xml.parser.ConfigLine;
+import org.mule.runtime.dsl.internal.util.CompressedSourceStore;
+import org.mule.runtime.dsl.internal.util.SymbolTable;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,7 +23,6 @@ import org.w3c.dom.Attr;
 import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 /**
  * Simple parser that allows to obtain the required data from an XML document.
@@ -32,9 +35,47 @@ import org.w3c.dom.NodeList;
 public final class XmlApplicationParser {
 
   private final org.mule.runtime.dsl.api.xml.parser.XmlApplicationParser parser;
+  private final SymbolTable symbolTable;
+  private final CompressedSourceStore sourceStore;
 
   public XmlApplicationParser(List<XmlNamespaceInfoProvider> namespaceInfoProviders) {
+    this(namespaceInfoProviders, SymbolTable.newSymbolTable());
+  }
+
+  /**
+   * @param namespaceInfoProviders the providers of the namespaces that may be used in the parsed documents.
+   * @param symbolTable            the table to use for canonicalizing the namespaces, identifiers and attribute names of the
+   *                               parsed elements. Use {@link SymbolTable#shared()} to share these across parsers.
+   *
+   * @since 1.10
+   */
+  public XmlApplicationParser(List<XmlNamespaceInfoProvider> namespaceInfoProviders, SymbolTable symbolTable) {
+    this(namespaceInfoProviders, symbolTable, null);
+  }
+
+  /**
+   * @param namespaceInfoProviders the providers of the namespaces that may be used in the parsed documents.
+   * @param symbolTable            the table to use for canonicalizing the namespaces, identifiers and attribute names of the
+   *                               parsed elements. Use {@link SymbolTable#shared()} to share these across parsers.
+   * @param sourceStore            the store to keep the source code of the parsed elements compressed in, or {@code null} to
+   *                               keep it as plain strings.
+   *
+   * @since 1.10
+   */
+  public XmlApplicationParser(List<XmlNamespaceInfoProvider> namespaceInfoProviders, SymbolTable symbolTable,
+                              CompressedSourceStore sourceStore) {
     parser = new org.mule.runtime.dsl.api.xml.parser.XmlApplicationParser(namespaceInfoProviders);
+    this.symbolTable = symbolTable;
+    this.sourceStore = sourceStore;
+  }
+
+  /**
+   * @return the table used for canonicalizing the strings of the parsed elements, from which its metrics may be obtained.
+   *
+   * @since 1.10
+   */
+  public SymbolTable getSymbolTable() {
+    return symbolTable;
   }
 
   /**
@@ -54,9 +95,49 @@ public final class XmlApplicationParser {
       return empty();
     }
 
-    String identifier = parseIdentifier(node);
-    String namespace = parseNamespace(node);
-    String namespaceUri = parseNamespaceUri(node);
+    return Optional.of(readTree(node));
+  }
+
+  /**
+   * Walks the DOM tree from the given node with an explicit stack, so that very deep trees do not overflow the thread stack.
+   *
+   * @param rootNode the node to read the tree from.
+   * @return the config line for the given node.
+   */
+  private ConfigLine readTree(Node rootNode) {
+    Deque<PendingConfigLine> stack = new ArrayDeque<>();
+    PendingConfigLine root = readConfigLine(rootNode);
+    stack.push(root);
+
+    while (!stack.isEmpty()) {
+      PendingConfigLine current = stack.peek();
+      Node child = current.nextChild();
+
+      if (child == null) {
+        stack.pop();
+        current.configLine = current.builder.build();
+        PendingConfigLine parent = stack.peek();
+        if (parent != null) {
+          parent.builder.addChild(current.configLine);
+        }
+      } else if (isTextContent(child)) {
+        current.builder.setTextContent(child.getNodeValue());
+        if (child.getNodeType() == Node.CDATA_SECTION_NODE) {
+          current.builder.addCustomAttribute(IS_CDATA, Boolean.TRUE);
+          current.skipRemainingChildren();
+        }
+      } else if (isValidType(child)) {
+        stack.push(readConfigLine(child));
+      }
+    }
+
+    return root.configLine;
+  }
+
+  private PendingConfigLine readConfigLine(Node node) {
+    String identifier = symbolTable.canonicalize(parseIdentifier(node));
+    String namespace = symbolTable.canonicalize(parseNamespace(node));
+    String namespaceUri = symbolTable.canonicalize(parseNamespaceUri(node));
 
     ConfigLine.Builder builder = new ConfigLine.Builder()
         .setIdentifier(identifier)
@@ -64,11 +145,19 @@ public final class XmlApplicationParser {
         .setNamespaceUri(namespaceUri);
 
     XmlMetadataAnnotations userData = (XmlMetadataAnnotations) node.getUserData(XmlMetadataAnnotations.METADATA_ANNOTATIONS_KEY);
-    builder.setLineNumber(userData.getOpeningTagBoundaries().getStartLineNumber())
-        .setStartColumn(userData.getOpeningTagBoundaries().getStartColumnNumber())
-        .setSourceCode(userData.getElementString());
+    // not present when the document was loaded without capturing metadata
+    if (userData != null) {
+      builder.setLineNumber(userData.getOpeningTagStartLineNumber())
+          .setEndLineNumber(userData.getClosingTagEndLineNumber())
+          .setStartColumn(userData.getOpeningTagStartColumnNumber());
+      if (sourceStore != null && userData.getElementString() != null) {
+        builder.setSourceCodeSupplier(sourceStore.store(userData.getElementString()));
+      } else {
+        builder.setSourceCode(userData.getElementString());
+      }
+    }
 
-    XmlCustomAttributeHandler.to(builder).addCustomAttributes(node);
+    XmlCustomAttributeHandler.to(builder, symbolTable).addCustomAttributes(node);
 
     Element element = (Element) node;
     NamedNodeMap attributes = element.getAttributes();
@@ -77,25 +166,38 @@ public final class XmlApplicationParser {
         Node attribute = attributes.item(i);
         Attr attributeNode = element.getAttributeNode(attribute.getNodeName());
         boolean isFromXsd = !attributeNode.getSpecified();
-        builder.addConfigAttribute(attribute.getNodeName(), attribute.getNodeValue(), isFromXsd);
+        builder.addConfigAttribute(symbolTable.canonicalize(attribute.getNodeName()), attribute.getNodeValue(), isFromXsd);
       }
     }
-    if (node.hasChildNodes()) {
-      NodeList children = node.getChildNodes();
-      for (int i = 0; i < children.getLength(); i++) {
-        Node child = children.item(i);
-        if (isTextContent(child)) {
-          builder.setTextContent(child.getNodeValue());
-          if (child.getNodeType() == Node.CDATA_SECTION_NODE) {
-            builder.addCustomAttribute(IS_CDATA, Boolean.TRUE);
-            break;
-          }
-        } else {
-          configLineFromElement(child).ifPresent(builder::addChild);
-        }
+
+    return new PendingConfigLine(builder, node.getFirstChild());
+  }
+
+  /**
+   * A config line that is being read from the DOM.
+   */
+  private static final class PendingConfigLine {
+
+    private final ConfigLine.Builder builder;
+    private Node nextChild;
+    private ConfigLine configLine;
+
+    private PendingConfigLine(ConfigLine.Builder builder, Node firstChild) {
+      this.builder = builder;
+      this.nextChild = firstChild;
+    }
+
+    private Node nextChild() {
+      Node child = nextChild;
+      if (child != null) {
+        nextChild = child.getNextSibling();
       }
+      return child;
+    }
+
+    private void skipRemainingChildren() {
+      nextChild = null;
     }
-    return Optional.of(builder.build());
   }
 
   public String parseNamespace(Node node) {
@@ -11,6 +11,7 @@ import static org.mule.runtime.api.component.Component.Annotations.NAME_ANNOTATI
 import static org.mule.runtime.dsl.api.xml.parser.XmlApplicationParser.DECLARED_PREFIX;
 
 import org.mule.runtime.dsl.api.xml.parser.ConfigLine;
+import org.mule.runtime.dsl.internal.util.SymbolTable;
 
 import javax.xml.namespace.QName;
 
@@ -26,19 +27,34 @@ import org.w3c.dom.Node;
 public class XmlCustomAttributeHandler {
 
   /**
+   * The names of the custom attributes are canonicalized with the {@link SymbolTable#shared() shared symbol table}.
+   *
    * @param builder builder which is going to be used to create the {@code org.mule.runtime.config.dsl.processor.ConfigLine}.
    * @return handler for adding custom attributes to the builder.
    */
   public static ConfigLineCustomAttributeStore to(ConfigLine.Builder builder) {
-    return new ConfigLineCustomAttributeStore(builder);
+    return to(builder, SymbolTable.shared());
+  }
+
+  /**
+   * @param builder builder which is going to be used to create the {@code org.mule.runtime.config.dsl.processor.ConfigLine}.
+   * @param symbolTable the table to use for canonicalizing the names of the custom attributes.
+   * @return handler for adding custom attributes to the builder.
+   *
+   * @since 1.10
+   */
+  public static ConfigLineCustomAttributeStore to(ConfigLine.Builder builder, SymbolTable symbolTable) {
+    return new ConfigLineCustomAttributeStore(builder, symbolTable);
   }
 
   public static class ConfigLineCustomAttributeStore {
 
     private final ConfigLine.Builder builder;
+    private final SymbolTable symbolTable;
 
-    private ConfigLineCustomAttributeStore(ConfigLine.Builder builder) {
+    private ConfigLineCustomAttributeStore(ConfigLine.Builder builder, SymbolTable symbolTable) {
       this.builder = builder;
+      this.symbolTable = symbolTable;
     }
 
     public void addCustomAttributes(Node node) {
@@ -48,13 +64,13 @@ public class XmlCustomAttributeHandler {
         this.builder.addCustomAttribute(NAME_ANNOTATION_KEY.toString(), nameAttribute.getNodeValue());
       }
       if (node.getPrefix() != null) {
-        this.builder.addCustomAttribute(DECLARED_PREFIX, node.getPrefix());
+        this.builder.addCustomAttribute(DECLARED_PREFIX, symbolTable.canonicalize(node.getPrefix()));
       }
       for (int i = 0; i < node.getAttributes().getLength(); i++) {
         Node attributeNode = node.getAttributes().item(i);
         if (attributeNode.getNamespaceURI() != null) {
-          this.builder.addCustomAttribute(new QName(attributeNode.getNamespaceURI(), attributeNode.getLocalName()).toString(),
-                                          attributeNode.getNodeValue());
+          String name = new QName(attributeNode.getNamespaceURI(), attributeNode.getLocalName()).toString();
+          this.builder.addCustomAttribute(symbolTable.canonicalize(name), attributeNode.getNodeValue());
         }
       }
     }
@@ -8,8 +8,11 @@ package org.mule.runtime.dsl.internal.xml.parser;
 
 import org.mule.api.annotation.NoImplement;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.xml.sax.Attributes;
+
 /**
  * Stores the metadata annotations from the XML parser so they are available when building the actual objects of the application.
  */
@@ -69,6 +72,22 @@ public interface XmlMetadataAnnotations {
    */
   void appendElementStart(String qName, Map<String, String> atts);
 
+  /**
+   * Builds the opening tag of the xml element, reading the attributes straight from the SAX parser.
+   *
+   * @param qName the qualified name of the element
+   * @param atts  the attributes of the element
+   *
+   * @since 1.10
+   */
+  default void appendElementStart(String qName, Attributes atts) {
+    final Map<String, String> attsMap = new LinkedHashMap<>();
+    for (int i = 0; i < atts.getLength(); ++i) {
+      attsMap.put(atts.getQName(i), atts.getValue(i));
+    }
+    appendElementStart(qName, attsMap);
+  }
+
   /**
    * Adds the body of the xml tag.
    * 
@@ -106,4 +125,76 @@ public interface XmlMetadataAnnotations {
    * @return the boundaries of the closing tag on the source xml file.
    */
   TagBoundaries getClosingTagBoundaries();
+
+  /**
+   * Shorthand for {@code getOpeningTagBoundaries().getStartLineNumber()}, which implementations may provide without creating the
+   * {@link TagBoundaries}.
+   *
+   * @return the line where the declaration of the opening tag starts in its source xml file.
+   *
+   * @since 1.10
+   */
+  default int getOpeningTagStartLineNumber() {
+    return getOpeningTagBoundaries().getStartLineNumber();
+  }
+
+  /**
+   * Shorthand for {@code getOpeningTagBoundaries().getStartColumnNumber()}, which implementations may provide without creating
+   * the {@link TagBoundaries}.
+   *
+   * @return the column where the declaration of the opening tag starts in its source xml file.
+   *
+   * @since 1.10
+   */
+  default int getOpeningTagStartColumnNumber() {
+    return getOpeningTagBoundaries().getStartColumnNumber();
+  }
+
+  /**
+   * Shorthand for {@code getClosingTagBoundaries().getEndLineNumber()}, which implementations may provide without creating the
+   * {@link TagBoundaries}.
+   *
+   * @return the line where the declaration of the closing tag ends in its source xml file.
+   *
+   * @since 1.10
+   */
+  default int getClosingTagEndLineNumber() {
+    return getClosingTagBoundaries().getEndLineNumber();
+  }
+
+  /**
+   * Sets all the boundaries of the opening tag at once.
+   *
+   * @param startLineNumber   the line where the declaration of the tag starts in its source xml file.
+   * @param startColumnNumber the column where the declaration of the tag starts in its source xml file.
+   * @param endLineNumber     the line where the declaration of the tag ends in its source xml file.
+   * @param endColumnNumber   the column where the declaration of the tag ends in its source xml file.
+   *
+   * @since 1.10
+   */
+  default void setOpeningTagBoundaries(int startLineNumber, int startColumnNumber, int endLineNumber, int endColumnNumber) {
+    TagBoundaries openingTagBoundaries = getOpeningTagBoundaries();
+    openingTagBoundaries.setStartLineNumber(startLineNumber);
+    openingTagBoundaries.setStartColumnNumber(startColumnNumber);
+    openingTagBoundaries.setEndLineNumber(endLineNumber);
+    openingTagBoundaries.setEndColumnNumber(endColumnNumber);
+  }
+
+  /**
+   * Sets all the boundaries of the closing tag at once.
+   *
+   * @param startLineNumber   the line where the declaration of the tag starts in its source xml file.
+   * @param startColumnNumber the column where the declaration of the tag starts in its source xml file.
+   * @param endLineNumber     the line where the declaration of the tag ends in its source xml file.
+   * @param endColumnNumber   the column where the declaration of the tag ends in its source xml file.
+   *
+   * @since 1.10
+   */
+  default void setClosingTagBoundaries(int startLineNumber, int startColumnNumber, int endLineNumber, int endColumnNumber) {
+    TagBoundaries closingTagBoundaries = getClosingTagBoundaries();
+    closingTagBoundaries.setStartLineNumber(startLineNumber);
+    closingTagBoundaries.setStartColumnNumber(startColumnNumber);
+    closingTagBoundaries.setEndLineNumber(endLineNumber);
+    closingTagBoundaries.setEndColumnNumber(endColumnNumber);
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.internal.xml.parser;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import static java.util.Collections.unmodifiableMap;
+
+import org.mule.runtime.dsl.api.xml.XmlNamespaceInfo;
+import org.mule.runtime.dsl.api.xml.XmlNamespaceInfoProvider;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Immutable index of the namespaces declared by a list of {@link XmlNamespaceInfoProvider}s, by namespace URI.
+ * <p>
+ * Indexes are built once for each list of providers and shared by all the parsers using the same providers, so lookups do not
+ * need to go through the providers nor any locking.
+ *
+ * @since 1.10
+ */
+public final class XmlNamespaceIndex {
+
+  // The index is kept as long as some parser uses it. A different list of providers gets a different index.
+  private static final Cache<List<XmlNamespaceInfoProvider>, XmlNamespaceIndex> INDEXES = newBuilder()
+      .weakValues()
+      .build();
+
+  private final Map<String, String> namespacesByUri;
+
+  /**
+   * @param namespaceInfoProviders the providers to build the index from.
+   * @return the index for the given providers, shared with any other caller that provides the same providers in the same order.
+   */
+  public static XmlNamespaceIndex forProviders(List<XmlNamespaceInfoProvider> namespaceInfoProviders) {
+    return INDEXES.get(ImmutableList.copyOf(namespaceInfoProviders), XmlNamespaceIndex::new);
+  }
+
+  private XmlNamespaceIndex(List<XmlNamespaceInfoProvider> namespaceInfoProviders) {
+    Map<String, String> namespaces = new HashMap<>();
+    for (XmlNamespaceInfoProvider namespaceInfoProvider : namespaceInfoProviders) {
+      for (XmlNamespaceInfo xmlNamespaceInfo : namespaceInfoProvider.getXmlNamespacesInfo()) {
+        // the first provider declaring a namespace uri takes precedence
+        if (!namespaces.containsKey(xmlNamespaceInfo.getNamespaceUriPrefix())) {
+          namespaces.put(xmlNamespaceInfo.getNamespaceUriPrefix(), xmlNamespaceInfo.getNamespace());
+        }
+      }
+    }
+    this.namespacesByUri = unmodifiableMap(namespaces);
+  }
+
+  /**
+   * @param namespaceUri the namespace URI to look for.
+   * @return whether a provider declares the given namespace URI.
+   */
+  public boolean contains(String namespaceUri) {
+    return namespacesByUri.containsKey(namespaceUri);
+  }
+
+  /**
+   * @param namespaceUri the namespace URI to look for.
+   * @return the namespace declared for the given namespace URI by the providers, or {@code null} if not declared.
+   */
+  public String getNamespace(String namespaceUri) {
+    return namespacesByUri.get(namespaceUri);
+  }
+}
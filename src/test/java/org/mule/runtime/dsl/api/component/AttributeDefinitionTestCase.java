@@ -0,0 +1,225 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.component;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+import static org.mule.runtime.dsl.api.component.AttributeDefinition.Builder.fromChildCollectionConfiguration;
+import static org.mule.runtime.dsl.api.component.AttributeDefinition.Builder.fromChildConfiguration;
+import static org.mule.runtime.dsl.api.component.AttributeDefinition.Builder.fromChildMapConfiguration;
+import static org.mule.runtime.dsl.api.component.AttributeDefinition.Builder.fromFixedReference;
+import static org.mule.runtime.dsl.api.component.AttributeDefinition.Builder.fromFixedValue;
+import static org.mule.runtime.dsl.api.component.AttributeDefinition.Builder.fromMultipleDefinitions;
+import static org.mule.runtime.dsl.api.component.AttributeDefinition.Builder.fromReferenceObject;
+import static org.mule.runtime.dsl.api.component.AttributeDefinition.Builder.fromSimpleParameter;
+import static org.mule.runtime.dsl.api.component.AttributeDefinition.Builder.fromSimpleReferenceParameter;
+import static org.mule.runtime.dsl.api.component.AttributeDefinition.Builder.fromSoftReferenceSimpleParameter;
+import static org.mule.runtime.dsl.api.component.AttributeDefinition.Builder.fromTextContent;
+import static org.mule.runtime.dsl.api.component.AttributeDefinition.Builder.fromUndefinedComplexAttribute;
+import static org.mule.runtime.dsl.api.component.AttributeDefinition.Builder.fromUndefinedSimpleAttributes;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+
+import java.util.Optional;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+
+@Feature(DSL_PARSING)
+public class AttributeDefinitionTestCase {
+
+  @Test
+  public void dispatch() {
+    TypeConverter<String, Integer> typeConverter = Integer::valueOf;
+
+    assertThat(visit(fromSimpleParameter("a").build()), is("configurationParameter:a:null:Optional.empty"));
+    assertThat(visit(fromSimpleParameter("a", typeConverter).build()), is("configurationParameter:a:null:converter"));
+    assertThat(visit(fromSimpleReferenceParameter("a", typeConverter).build()),
+               is("referenceConfigurationParameter:a:null:converter"));
+    assertThat(visit(fromReferenceObject(String.class).build()), is("referenceObject:String"));
+    assertThat(visit(fromUndefinedSimpleAttributes().build()), is("undefinedSimpleParameters"));
+    assertThat(visit(fromUndefinedComplexAttribute().build()), is("undefinedComplexParameters"));
+    assertThat(visit(fromSimpleReferenceParameter("ref").build()), is("referenceSimpleParameter:ref"));
+    assertThat(visit(fromSoftReferenceSimpleParameter("ref").build()), is("softReferenceSimpleParameter:ref"));
+    assertThat(visit(fromFixedReference("ref").build()), is("referenceFixedParameter:ref"));
+    assertThat(visit(fromChildCollectionConfiguration(String.class).withWrapperIdentifier("w").build()),
+               is("complexChildCollection:String:Optional[w]"));
+    assertThat(visit(fromChildMapConfiguration(String.class, Integer.class).build()), is("complexChildMap:String:Integer:null"));
+    assertThat(visit(fromChildConfiguration(String.class).withIdentifier("c").build()),
+               is("complexChild:String:Optional.empty:Optional[c]"));
+    assertThat(visit(fromTextContent().build()), is("valueFromTextContent"));
+    assertThat(visit(fromMultipleDefinitions().build()), is("multipleValues"));
+    assertThat(visit(fromFixedValue("x").build()), is("fixedValue:x"));
+  }
+
+  @Test
+  public void defaultValueOfConfigurationParameter() {
+    assertThat(visit(fromSimpleParameter("a").withDefaultValue("d").build()), is("configurationParameter:a:d:Optional.empty"));
+  }
+
+  @Test
+  public void identifiersSetAfterBuild() {
+    AttributeDefinition.Builder builder = fromChildConfiguration(String.class);
+    AttributeDefinition definition = builder.build();
+    builder.withWrapperIdentifier("w");
+
+    assertThat(visit(definition), is("complexChild:String:Optional[w]:Optional.empty"));
+  }
+
+  @Test
+  public void defaultValueSetAfterBuild() {
+    AttributeDefinition.Builder builder = fromSimpleParameter("a");
+    AttributeDefinition definition = builder.build();
+    builder.withDefaultValue("d");
+
+    assertThat(visit(definition), is("configurationParameter:a:d:Optional.empty"));
+  }
+
+  @Test
+  public void childIdentifierSetAfterBuild() {
+    AttributeDefinition.Builder builder = fromChildConfiguration(String.class).withWrapperIdentifier("w");
+    AttributeDefinition definition = builder.build();
+    builder.withIdentifier("c");
+
+    assertThat(visit(definition), is("complexChild:String:Optional[w]:Optional[c]"));
+  }
+
+  @Test
+  public void fixedValueSetAfterBuild() {
+    AttributeDefinition.Builder builder = fromFixedReference(null);
+    AttributeDefinition definition = builder.build();
+    builder.withDefaultValue("x");
+
+    assertThat(visit(definition), is("fixedValue:x"));
+  }
+
+  @Test
+  public void optionalsAreShared() {
+    AttributeDefinition definition = fromChildConfiguration(String.class).withWrapperIdentifier("w").build();
+    OptionalCapturingVisitor first = new OptionalCapturingVisitor();
+    OptionalCapturingVisitor second = new OptionalCapturingVisitor();
+
+    definition.accept(first);
+    definition.accept(second);
+
+    assertThat(second.wrapperIdentifier, sameInstance(first.wrapperIdentifier));
+  }
+
+  @Test
+  public void nothingConfigured() {
+    AttributeDefinition definition = fromFixedReference(null).withIdentifier("c").build();
+
+    try {
+      definition.accept(new RecordingVisitor());
+      fail("Expected the definition not to be resolved");
+    } catch (MuleRuntimeException e) {
+      assertThat(e.getMessage(), containsString(definition.toString()));
+      assertThat(e.getMessage(), containsString("childIdentifier: c"));
+    }
+  }
+
+  private static String visit(AttributeDefinition definition) {
+    RecordingVisitor visitor = new RecordingVisitor();
+    definition.accept(visitor);
+    return visitor.visited;
+  }
+
+  private static class RecordingVisitor implements AttributeDefinitionVisitor {
+
+    private String visited;
+
+    @Override
+    public void onReferenceObject(Class<?> objectType) {
+      visited = "referenceObject:" + objectType.getSimpleName();
+    }
+
+    @Override
+    public void onReferenceSimpleParameter(String reference) {
+      visited = "referenceSimpleParameter:" + reference;
+    }
+
+    @Override
+    public void onSoftReferenceSimpleParameter(String softReference) {
+      visited = "softReferenceSimpleParameter:" + softReference;
+    }
+
+    @Override
+    public void onReferenceFixedParameter(String reference) {
+      visited = "referenceFixedParameter:" + reference;
+    }
+
+    @Override
+    public void onFixedValue(Object value) {
+      visited = "fixedValue:" + value;
+    }
+
+    @Override
+    public void onConfigurationParameter(String parameterName, Object defaultValue, Optional<TypeConverter> typeConverter) {
+      visited = "configurationParameter:" + parameterName + ":" + defaultValue + ":" + converter(typeConverter);
+    }
+
+    @Override
+    public void onReferenceConfigurationParameter(String parameterName, Object defaultValue,
+                                                  Optional<TypeConverter> typeConverter) {
+      visited = "referenceConfigurationParameter:" + parameterName + ":" + defaultValue + ":" + converter(typeConverter);
+    }
+
+    @Override
+    public void onUndefinedSimpleParameters() {
+      visited = "undefinedSimpleParameters";
+    }
+
+    @Override
+    public void onUndefinedComplexParameters() {
+      visited = "undefinedComplexParameters";
+    }
+
+    @Override
+    public void onComplexChildCollection(Class<?> type, Optional<String> wrapperIdentifierOptional) {
+      visited = "complexChildCollection:" + type.getSimpleName() + ":" + wrapperIdentifierOptional;
+    }
+
+    @Override
+    public void onComplexChildMap(Class<?> keyType, Class<?> valueType, String wrapperIdentifier) {
+      visited = "complexChildMap:" + keyType.getSimpleName() + ":" + valueType.getSimpleName() + ":" + wrapperIdentifier;
+    }
+
+    @Override
+    public void onComplexChild(Class<?> type, Optional<String> wrapperIdentifier, Optional<String> childIdentifier) {
+      visited = "complexChild:" + type.getSimpleName() + ":" + wrapperIdentifier + ":" + childIdentifier;
+    }
+
+    @Override
+    public void onValueFromTextContent() {
+      visited = "valueFromTextContent";
+    }
+
+    @Override
+    public void onMultipleValues(KeyAttributeDefinitionPair[] definitions) {
+      visited = "multipleValues";
+    }
+
+    private static String converter(Optional<TypeConverter> typeConverter) {
+      return typeConverter.isPresent() ? "converter" : typeConverter.toString();
+    }
+  }
+
+  private static class OptionalCapturingVisitor extends RecordingVisitor {
+
+    private Optional<String> wrapperIdentifier;
+
+    @Override
+    public void onComplexChild(Class<?> type, Optional<String> wrapperIdentifier, Optional<String> childIdentifier) {
+      this.wrapperIdentifier = wrapperIdentifier;
+    }
+  }
+}
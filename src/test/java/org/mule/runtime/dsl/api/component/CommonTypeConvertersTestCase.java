@@ -6,9 +6,14 @@
  */
 package org.mule.runtime.dsl.api.component;
 
+import static java.lang.Thread.currentThread;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mule.runtime.dsl.api.component.CommonTypeConverters.getClassResolutionStatistics;
+import static org.mule.runtime.dsl.api.component.CommonTypeConverters.invalidateClassResolutions;
+import static org.mule.runtime.dsl.api.component.CommonTypeConverters.stringToClassConverter;
 import static org.mule.runtime.dsl.api.component.CommonTypeConverters.stringToEnumConverter;
 
 import java.util.concurrent.TimeUnit;
@@ -21,6 +26,10 @@ public class CommonTypeConvertersTestCase {
     ENUM1, ENUM2
   }
 
+  private enum MixedCaseEnum {
+    value, VALUE, Other
+  }
+
   @Test
   public void stringToEnumDifferentTypes() {
     assertThat(stringToEnumConverter(TimeUnit.class).convert("SECONDS"), is(SECONDS));
@@ -37,4 +46,65 @@ public class CommonTypeConvertersTestCase {
     stringToEnumConverter(TestEnum.class).convert(null);
   }
 
+  @Test
+  public void invalidEnumValue() {
+    try {
+      stringToEnumConverter(TestEnum.class).convert("ENUM3");
+      fail("Expected an invalid enum value");
+    } catch (InvalidEnumValueException e) {
+      assertThat(e.getMessage(), is("No enum constant " + TestEnum.class.getCanonicalName() + ".ENUM3"));
+      assertThat(e.getEnumType().getName(), is(TestEnum.class.getName()));
+      assertThat(e.getValue(), is("ENUM3"));
+      assertThat(e.getStackTrace().length, is(0));
+    }
+  }
+
+  @Test(expected = InvalidEnumValueException.class)
+  public void caseSensitiveByDefault() {
+    stringToEnumConverter(TestEnum.class).convert("enum1");
+  }
+
+  @Test
+  public void stringToEnumIgnoringCase() {
+    assertThat(stringToEnumConverter(TestEnum.class, true).convert("enum1"), is(TestEnum.ENUM1));
+    assertThat(stringToEnumConverter(MixedCaseEnum.class, true).convert("OTHER"), is(MixedCaseEnum.Other));
+    assertThat(stringToEnumConverter(MixedCaseEnum.class, true).convert("VALUE"), is(MixedCaseEnum.VALUE));
+    assertThat(stringToEnumConverter(MixedCaseEnum.class, true).convert("value"), is(MixedCaseEnum.value));
+    assertThat(stringToEnumConverter(MixedCaseEnum.class, true).convert("Value"), is(MixedCaseEnum.value));
+  }
+
+  @Test(expected = InvalidEnumValueException.class)
+  public void invalidEnumValueIgnoringCase() {
+    stringToEnumConverter(TestEnum.class, true).convert("enum3");
+  }
+
+  @Test
+  public void classResolutionsInvalidated() {
+    ClassLoader originalClassLoader = currentThread().getContextClassLoader();
+    ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {};
+    currentThread().setContextClassLoader(classLoader);
+    try {
+      convertMissingClass();
+      long misses = getClassResolutionStatistics().getMissCount();
+      long notFoundHits = getClassResolutionStatistics().getNotFoundHitCount();
+
+      convertMissingClass();
+      assertThat(getClassResolutionStatistics().getNotFoundHitCount(), is(notFoundHits + 1));
+
+      invalidateClassResolutions(classLoader);
+      convertMissingClass();
+      assertThat(getClassResolutionStatistics().getMissCount(), is(misses + 1));
+    } finally {
+      currentThread().setContextClassLoader(originalClassLoader);
+    }
+  }
+
+  private static void convertMissingClass() {
+    try {
+      stringToClassConverter().convert("org.mule.NotAClass");
+      fail("Expected the class not to be found");
+    } catch (RuntimeException e) {
+      assertThat(e.getCause() instanceof ClassNotFoundException, is(true));
+    }
+  }
 }
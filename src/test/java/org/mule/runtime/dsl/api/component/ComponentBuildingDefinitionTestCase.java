@@ -0,0 +1,151 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.component;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+import static org.mule.runtime.dsl.api.component.AttributeDefinition.Builder.fromSimpleParameter;
+import static org.mule.runtime.dsl.api.component.TypeDefinition.fromType;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.mule.runtime.dsl.api.component.ComponentBuildingDefinition.Builder;
+
+import java.util.List;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+
+@Feature(DSL_PARSING)
+public class ComponentBuildingDefinitionTestCase {
+
+  @Test
+  public void parametersInOrder() {
+    ComponentBuildingDefinition<String> definition = baseBuilder()
+        .withConstructorParameterDefinition(fromSimpleParameter("first").build())
+        .withSetterParameterDefinition("a", fromSimpleParameter("a").build())
+        .withConstructorParameterDefinition(fromSimpleParameter("second").build())
+        .withSetterParameterDefinition("b", fromSimpleParameter("b").build())
+        .withSetterParameterDefinition("c", fromSimpleParameter("c").build())
+        .build();
+
+    assertThat(definition.getConstructorAttributeDefinition().size(), is(2));
+    assertThat(setterNames(definition), contains("a", "b", "c"));
+    assertThat(definition.getAttributesDefinitions().size(), is(5));
+    assertThat(definition.getComponentIdentifier().getNamespace(), is("test"));
+    assertThat(definition.getComponentIdentifier().getName(), is("element"));
+  }
+
+  @Test
+  public void forkedBuildersDoNotAffectEachOther() {
+    Builder<String> base = baseBuilder()
+        .withSetterParameterDefinition("a", fromSimpleParameter("a").build());
+
+    Builder<String> withB = base.withSetterParameterDefinition("b", fromSimpleParameter("b").build()).asScope();
+    Builder<String> withC = base.withSetterParameterDefinition("c", fromSimpleParameter("c").build()).asNamed();
+
+    assertThat(setterNames(base.build()), contains("a"));
+    assertThat(setterNames(withB.build()), contains("a", "b"));
+    assertThat(setterNames(withC.build()), contains("a", "c"));
+    assertThat(base.build().isScope(), is(false));
+    assertThat(withB.build().isScope(), is(true));
+    assertThat(withB.build().isNamed(), is(false));
+    assertThat(withC.build().isNamed(), is(true));
+  }
+
+  @Test
+  public void builtDefinitionListsAreIndependent() {
+    Builder<String> builder = baseBuilder().withSetterParameterDefinition("a", fromSimpleParameter("a").build());
+    ComponentBuildingDefinition<String> definition = builder.build();
+
+    ComponentBuildingDefinition<String> other = builder
+        .withSetterParameterDefinition("b", fromSimpleParameter("b").build())
+        .build();
+
+    assertThat(setterNames(definition), contains("a"));
+    assertThat(setterNames(other), contains("a", "b"));
+    assertThat(baseBuilder().build().getSetterParameterDefinitions(), is(empty()));
+    assertThat(baseBuilder().build().getConstructorAttributeDefinition(), is(empty()));
+  }
+
+  @Test
+  public void buildTwiceReturnsSameDefinition() {
+    Builder<String> builder = baseBuilder().asPrototype();
+
+    assertThat(builder.build(), sameInstance(builder.build()));
+    assertThat(builder.build().isPrototype(), is(true));
+  }
+
+  @Test
+  public void typeConverterAndIgnoredParameterOnlyApplyWhenSetLast() {
+    TypeConverter<String, String> typeConverter = value -> value;
+
+    Builder<String> withConverter = baseBuilder().withTypeConverter(typeConverter);
+    Builder<String> withIgnored = baseBuilder().withIgnoredConfigurationParameter("ignored");
+
+    assertThat(withConverter.build().getTypeConverter().get(), sameInstance(typeConverter));
+    assertThat(withConverter.asNamed().build().getTypeConverter().isPresent(), is(false));
+    assertThat(withIgnored.build().getIgnoredConfigurationParameters(), contains("ignored"));
+    assertThat(withIgnored.asNamed().build().getIgnoredConfigurationParameters(), is(empty()));
+  }
+
+  @Test
+  public void precomputedViews() {
+    AttributeDefinition a = fromSimpleParameter("a").build();
+    AttributeDefinition first = fromSimpleParameter("first").build();
+    AttributeDefinition otherA = fromSimpleParameter("otherA").build();
+    ComponentBuildingDefinition<String> definition = baseBuilder()
+        .withSetterParameterDefinition("a", a)
+        .withConstructorParameterDefinition(first)
+        .withSetterParameterDefinition("b", fromSimpleParameter("b").build())
+        .withSetterParameterDefinition("a", otherA)
+        .withIgnoredConfigurationParameter("ignored")
+        .build();
+
+    assertThat(definition.getAttributesDefinitions(), sameInstance(definition.getAttributesDefinitions()));
+    assertThat(definition.getIgnoredConfigurationParameters(), sameInstance(definition.getIgnoredConfigurationParameters()));
+    assertThat(definition.getAttributesDefinitions().get(0), sameInstance(a));
+    assertThat(definition.getAttributesDefinitions().get(3), sameInstance(first));
+    assertThat(definition.getSetterAttributeDefinition("a").get(), sameInstance(otherA));
+    assertThat(definition.getSetterAttributeDefinition("missing").isPresent(), is(false));
+    assertThat(definition.getSetterAttributeDefinitionsByName().keySet(), contains("a", "b"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void setterParameterDefinitionsAreUnmodifiable() {
+    baseBuilder().build().getSetterParameterDefinitions()
+        .add(new SetterAttributeDefinition("a", fromSimpleParameter("a").build()));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void constructorAttributeDefinitionAreUnmodifiable() {
+    baseBuilder().build().getConstructorAttributeDefinition().add(fromSimpleParameter("a").build());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void attributesDefinitionsAreUnmodifiable() {
+    baseBuilder().build().getAttributesDefinitions().add(fromSimpleParameter("a").build());
+  }
+
+  private static Builder<String> baseBuilder() {
+    return new Builder<String>()
+        .withNamespace("test")
+        .withIdentifier("element")
+        .withTypeDefinition(fromType(String.class));
+  }
+
+  private static List<String> setterNames(ComponentBuildingDefinition<?> definition) {
+    return definition.getSetterParameterDefinitions().stream()
+        .map(SetterAttributeDefinition::getAttributeName)
+        .collect(toList());
+  }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.component;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+import static org.mule.runtime.dsl.api.component.AttributeDefinition.Builder.fromFixedValue;
+import static org.mule.runtime.dsl.api.component.TypeDefinition.fromType;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.mule.runtime.api.component.AbstractComponent;
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.dsl.api.component.ComponentInstantiationPlan.Instantiator;
+import org.mule.runtime.dsl.api.component.ComponentInstantiationPlan.ParameterResolver;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+
+@Feature(DSL_PARSING)
+public class ComponentInstantiationPlanTestCase {
+
+  @Test
+  public void constructorAndSetters() {
+    ComponentBuildingDefinition<Greeting> definition = greetingBuilder()
+        .withConstructorParameterDefinition(fromFixedValue("text").build())
+        .withSetterParameterDefinition("times", fromFixedValue("times").build())
+        .withSetterParameterDefinition("suffix", fromFixedValue("suffix").build())
+        .build();
+
+    Map<String, Object> values = new HashMap<>();
+    values.put("text", "hello");
+    values.put("times", 3);
+    values.put("suffix", "!");
+    Greeting greeting = ComponentInstantiationPlan.of(definition, Greeting.class).bind(fromValues()).create(values);
+
+    assertThat(greeting.getText(), is("hello"));
+    assertThat(greeting.getTimes(), is(3));
+    assertThat(greeting.getSuffix(), is("!"));
+  }
+
+  @Test
+  public void nullValuesAreNotSet() {
+    ComponentBuildingDefinition<Greeting> definition = greetingBuilder()
+        .withSetterParameterDefinition("suffix", fromFixedValue("suffix").build())
+        .build();
+
+    Greeting greeting = ComponentInstantiationPlan.of(definition, Greeting.class).bind(fromValues()).create(new HashMap<>());
+
+    assertThat(greeting.getText(), is(nullValue()));
+    assertThat(greeting.getSuffix(), is("?"));
+  }
+
+  @Test
+  public void constructorSelectedByArgumentType() {
+    ComponentBuildingDefinition<Greeting> definition = greetingBuilder()
+        .withConstructorParameterDefinition(fromFixedValue("text").build())
+        .build();
+    Instantiator<Greeting, Map<String, Object>> instantiator =
+        ComponentInstantiationPlan.of(definition, Greeting.class).bind(fromValues());
+
+    Map<String, Object> values = new HashMap<>();
+    values.put("text", 2);
+    assertThat(instantiator.create(values).getTimes(), is(2));
+
+    values.put("text", "hi");
+    assertThat(instantiator.create(values).getText(), is("hi"));
+  }
+
+  @Test
+  public void setterSelectedByArgumentType() {
+    ComponentBuildingDefinition<Greeting> definition = greetingBuilder()
+        .withSetterParameterDefinition("times", fromFixedValue("times").build())
+        .build();
+    Instantiator<Greeting, Map<String, Object>> instantiator =
+        ComponentInstantiationPlan.of(definition, Greeting.class).bind(fromValues());
+
+    Map<String, Object> values = new HashMap<>();
+    values.put("times", 2);
+    assertThat(instantiator.create(values).getTimes(), is(2));
+
+    values.put("times", "4");
+    assertThat(instantiator.create(values).getTimes(), is(4));
+  }
+
+  @Test(expected = MuleRuntimeException.class)
+  public void noSetterAcceptsArgument() {
+    ComponentBuildingDefinition<Greeting> definition = greetingBuilder()
+        .withSetterParameterDefinition("times", fromFixedValue("times").build())
+        .build();
+
+    Map<String, Object> values = new HashMap<>();
+    values.put("times", 2L);
+    ComponentInstantiationPlan.of(definition, Greeting.class).bind(fromValues()).create(values);
+  }
+
+  @Test
+  public void objectFactory() {
+    ComponentBuildingDefinition<Greeting> definition = greetingBuilder()
+        .withObjectFactoryType(GreetingObjectFactory.class)
+        .withSetterParameterDefinition("text", fromFixedValue("text").build())
+        .build();
+
+    Map<String, Object> values = new HashMap<>();
+    values.put("text", "hello");
+    ComponentInstantiationPlan<Greeting> plan = ComponentInstantiationPlan.of(definition, Greeting.class);
+    Instantiator<Greeting, Map<String, Object>> instantiator = plan.bind(fromValues());
+
+    assertThat(plan.getInstantiatedType(), sameInstance(GreetingObjectFactory.class));
+    assertThat(instantiator.instantiate(values), instanceOf(GreetingObjectFactory.class));
+    assertThat(instantiator.create(values).getText(), is("hello"));
+  }
+
+  @Test
+  public void planIsCached() {
+    ComponentBuildingDefinition<Greeting> definition = greetingBuilder().build();
+
+    assertThat(ComponentInstantiationPlan.of(definition, Greeting.class),
+               sameInstance(ComponentInstantiationPlan.of(definition, Greeting.class)));
+  }
+
+  @Test(expected = MuleRuntimeException.class)
+  public void missingSetter() {
+    ComponentInstantiationPlan.of(greetingBuilder()
+        .withSetterParameterDefinition("missing", fromFixedValue("missing").build())
+        .build(), Greeting.class);
+  }
+
+  @Test(expected = MuleRuntimeException.class)
+  public void missingConstructor() {
+    ComponentInstantiationPlan.of(greetingBuilder()
+        .withConstructorParameterDefinition(fromFixedValue("a").build())
+        .withConstructorParameterDefinition(fromFixedValue("b").build())
+        .build(), Greeting.class);
+  }
+
+  @Test(expected = MuleRuntimeException.class)
+  public void failingResolver() {
+    ComponentInstantiationPlan.of(greetingBuilder()
+        .withSetterParameterDefinition("text", fromFixedValue("text").build())
+        .build(), Greeting.class)
+        .bind(parameter -> context -> {
+          throw new IllegalStateException("failing");
+        })
+        .create(new Object());
+  }
+
+  private static ComponentBuildingDefinition.Builder<Greeting> greetingBuilder() {
+    return new ComponentBuildingDefinition.Builder<Greeting>()
+        .withNamespace("test")
+        .withIdentifier("greeting")
+        .withTypeDefinition(fromType(Greeting.class));
+  }
+
+  /**
+   * Resolves each parameter from the entry of the context keyed by the fixed value of its definition.
+   */
+  private static Function<AttributeDefinition, ParameterResolver<Map<String, Object>>> fromValues() {
+    return parameter -> {
+      FixedValueVisitor visitor = new FixedValueVisitor();
+      parameter.accept(visitor);
+      return values -> values.get(visitor.fixedValue);
+    };
+  }
+
+  private static class FixedValueVisitor implements AttributeDefinitionVisitor {
+
+    private Object fixedValue;
+
+    @Override
+    public void onFixedValue(Object value) {
+      fixedValue = value;
+    }
+
+    @Override
+    public void onReferenceObject(Class<?> objectType) {}
+
+    @Override
+    public void onReferenceSimpleParameter(String reference) {}
+
+    @Override
+    public void onSoftReferenceSimpleParameter(String softReference) {}
+
+    @Override
+    public void onReferenceFixedParameter(String reference) {}
+
+    @Override
+    public void onConfigurationParameter(String parameterName, Object defaultValue, Optional<TypeConverter> typeConverter) {}
+
+    @Override
+    public void onReferenceConfigurationParameter(String parameterName, Object defaultValue,
+                                                  Optional<TypeConverter> typeConverter) {}
+
+    @Override
+    public void onUndefinedSimpleParameters() {}
+
+    @Override
+    public void onUndefinedComplexParameters() {}
+
+    @Override
+    public void onComplexChildCollection(Class<?> type, Optional<String> wrapperIdentifierOptional) {}
+
+    @Override
+    public void onComplexChildMap(Class<?> keyType, Class<?> valueType, String wrapperIdentifier) {}
+
+    @Override
+    public void onComplexChild(Class<?> type, Optional<String> wrapperIdentifier, Optional<String> childIdentifier) {}
+
+    @Override
+    public void onValueFromTextContent() {}
+
+    @Override
+    public void onMultipleValues(KeyAttributeDefinitionPair[] definitions) {}
+  }
+
+  public static class Greeting {
+
+    private String text;
+    private int times;
+    private String suffix = "?";
+
+    public Greeting() {}
+
+    public Greeting(String text) {
+      this.text = text;
+    }
+
+    public Greeting(int times) {
+      this.times = times;
+    }
+
+    public String getText() {
+      return text;
+    }
+
+    public void setText(String text) {
+      this.text = text;
+    }
+
+    public int getTimes() {
+      return times;
+    }
+
+    public void setTimes(int times) {
+      this.times = times;
+    }
+
+    public void setTimes(String times) {
+      this.times = Integer.parseInt(times);
+    }
+
+    public String getSuffix() {
+      return suffix;
+    }
+
+    public void setSuffix(String suffix) {
+      this.suffix = suffix;
+    }
+  }
+
+  public static class GreetingObjectFactory extends AbstractComponent implements ObjectFactory<Greeting> {
+
+    private String text;
+
+    public void setText(String text) {
+      this.text = text;
+    }
+
+    @Override
+    public Greeting getObject() {
+      return new Greeting(text);
+    }
+  }
+}
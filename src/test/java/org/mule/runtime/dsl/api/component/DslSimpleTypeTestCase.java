@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.component;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+import static org.mule.runtime.dsl.api.component.DslSimpleType.getSimpleTypeConverter;
+import static org.mule.runtime.dsl.api.component.DslSimpleType.isSimpleType;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+
+@Feature(DSL_PARSING)
+public class DslSimpleTypeTestCase {
+
+  @Test
+  public void simpleTypes() {
+    assertThat(isSimpleType(int.class), is(true));
+    assertThat(isSimpleType(Integer.class), is(true));
+    assertThat(isSimpleType(String.class), is(true));
+    assertThat(isSimpleType(LocalDateTime.class), is(true));
+    assertThat(isSimpleType(TimeUnit.class), is(true));
+    assertThat(isSimpleType(boolean.class), is(false));
+    assertThat(isSimpleType(List.class), is(false));
+    assertThat(isSimpleType(Object.class), is(false));
+  }
+
+  @Test
+  public void numbers() {
+    assertThat(convert(byte.class, "-8"), is((byte) -8));
+    assertThat(convert(Short.class, "300"), is((short) 300));
+    assertThat(convert(int.class, "42"), is(42));
+    assertThat(convert(Integer.class, "-42"), is(-42));
+    assertThat(convert(long.class, "9000000000"), is(9000000000L));
+    assertThat(convert(Float.class, "1.5"), is(1.5f));
+    assertThat(convert(double.class, "2.25"), is(2.25d));
+    assertThat(convert(BigDecimal.class, "12.340"), is(new BigDecimal("12.340")));
+    assertThat(convert(BigInteger.class, "123456789012345678901234567890"),
+               is(new BigInteger("123456789012345678901234567890")));
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void invalidNumber() {
+    convert(int.class, "4x");
+  }
+
+  @Test
+  public void characters() {
+    assertThat(convert(char.class, "a"), is('a'));
+    assertThat(convert(Character.class, "\u00f1"), is('\u00f1'));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void moreThanOneCharacter() {
+    convert(char.class, "ab");
+  }
+
+  @Test
+  public void strings() {
+    assertThat(convert(String.class, "value"), is("value"));
+  }
+
+  @Test
+  public void enums() {
+    assertThat(convert(TimeUnit.class, "MINUTES"), is(MINUTES));
+  }
+
+  @Test
+  public void localDates() {
+    assertThat(convert(LocalDate.class, "2023-05-17"), is(LocalDate.of(2023, 5, 17)));
+    assertThat(convert(LocalDateTime.class, "2023-05-17T10:15:30"), is(LocalDateTime.of(2023, 5, 17, 10, 15, 30)));
+  }
+
+  @Test
+  public void dates() {
+    assertThat(convert(Date.class, "2023-05-17T10:15:30+02:00"),
+               is(Date.from(OffsetDateTime.parse("2023-05-17T10:15:30+02:00").toInstant())));
+    assertThat(convert(Date.class, "2023-05-17T10:15"),
+               is(Date.from(LocalDateTime.of(2023, 5, 17, 10, 15).atZone(ZoneId.systemDefault()).toInstant())));
+    assertThat(convert(Date.class, "2023-05-17"),
+               is(Date.from(LocalDate.of(2023, 5, 17).atStartOfDay(ZoneId.systemDefault()).toInstant())));
+  }
+
+  @Test
+  public void calendars() {
+    Calendar calendar = convert(Calendar.class, "2023-05-17T10:15:30Z");
+
+    assertThat(calendar.toInstant(), is(OffsetDateTime.parse("2023-05-17T10:15:30Z").toInstant()));
+  }
+
+  @Test
+  public void convertersAreShared() {
+    assertThat(getSimpleTypeConverter(int.class).get(), sameInstance(getSimpleTypeConverter(Integer.class).get()));
+    assertThat(getSimpleTypeConverter(TimeUnit.class), sameInstance(getSimpleTypeConverter(TimeUnit.class)));
+  }
+
+  @Test
+  public void noConverterForComplexTypes() {
+    assertThat(getSimpleTypeConverter(Object.class).isPresent(), is(false));
+    assertThat(getSimpleTypeConverter(boolean.class).isPresent(), is(false));
+  }
+
+  private static <T> T convert(Class<T> type, String value) {
+    return getSimpleTypeConverter(type).get().convert(value);
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.component.config;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+import static org.mule.runtime.dsl.api.component.TypeDefinition.fromType;
+
+import static java.util.Arrays.asList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.mule.runtime.api.component.ComponentIdentifier;
+import org.mule.runtime.dsl.api.component.ComponentBuildingDefinition;
+import org.mule.runtime.dsl.api.component.ComponentBuildingDefinitionProvider;
+
+import java.util.List;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+
+@Feature(DSL_PARSING)
+public class ComponentBuildingDefinitionRegistryTestCase {
+
+  private static final ComponentBuildingDefinition LOGGER = definition("mule", "logger");
+  private static final ComponentBuildingDefinition FLOW = definition("mule", "flow");
+  private static final ComponentBuildingDefinition LISTENER = definition("http", "listener");
+
+  @Test
+  public void lookup() {
+    ComponentBuildingDefinitionRegistry registry = ComponentBuildingDefinitionRegistry.of(asList(LOGGER, FLOW, LISTENER));
+
+    assertThat(registry.lookup(identifier("mule", "logger")).get(), sameInstance(LOGGER));
+    assertThat(registry.lookup(identifier("http", "listener")).get(), sameInstance(LISTENER));
+    assertThat(registry.lookup(identifier("http", "request")).isPresent(), is(false));
+    assertThat(registry.getDefinitions(), contains(LOGGER, FLOW, LISTENER));
+    assertThat(registry.size(), is(3));
+    assertThat(registry.getDuplicates().isEmpty(), is(true));
+  }
+
+  @Test
+  public void lookupByNamespace() {
+    ComponentBuildingDefinitionRegistry registry = ComponentBuildingDefinitionRegistry.of(asList(LOGGER, FLOW, LISTENER));
+
+    assertThat(registry.lookupByNamespace("mule"), contains(LOGGER, FLOW));
+    assertThat(registry.lookupByNamespace("http"), contains(LISTENER));
+    assertThat(registry.lookupByNamespace("file"), is(empty()));
+  }
+
+  @Test
+  public void duplicates() {
+    ComponentBuildingDefinition otherLogger = definition("mule", "logger");
+    ComponentBuildingDefinition yetAnotherLogger = definition("mule", "logger");
+    ComponentBuildingDefinitionRegistry registry =
+        ComponentBuildingDefinitionRegistry.of(asList(LOGGER, FLOW, otherLogger, yetAnotherLogger));
+
+    assertThat(registry.lookup(identifier("mule", "logger")).get(), sameInstance(yetAnotherLogger));
+    assertThat(registry.lookupByNamespace("mule"), contains(yetAnotherLogger, FLOW));
+    assertThat(registry.size(), is(2));
+    assertThat(registry.getDuplicates().size(), is(1));
+    assertThat(registry.getDuplicates().get(identifier("mule", "logger")), contains(LOGGER, otherLogger, yetAnotherLogger));
+  }
+
+  @Test
+  public void fromProviders() {
+    ComponentBuildingDefinitionRegistry registry =
+        ComponentBuildingDefinitionRegistry.fromProviders(asList(new CoreProvider(), new HttpProvider()));
+
+    assertThat(registry.getDefinitions(), contains(LOGGER, FLOW, LISTENER));
+  }
+
+  private static ComponentBuildingDefinition definition(String namespace, String name) {
+    return new ComponentBuildingDefinition.Builder<>()
+        .withNamespace(namespace)
+        .withIdentifier(name)
+        .withTypeDefinition(fromType(Object.class))
+        .build();
+  }
+
+  private static ComponentIdentifier identifier(String namespace, String name) {
+    return ComponentIdentifier.builder().namespace(namespace).name(name).build();
+  }
+
+  private static final class CoreProvider implements ComponentBuildingDefinitionProvider {
+
+    @Override
+    public void init() {}
+
+    @Override
+    public List<ComponentBuildingDefinition> getComponentBuildingDefinitions() {
+      return asList(LOGGER, FLOW);
+    }
+  }
+
+  private static final class HttpProvider implements ComponentBuildingDefinitionProvider {
+
+    @Override
+    public void init() {}
+
+    @Override
+    public List<ComponentBuildingDefinition> getComponentBuildingDefinitions() {
+      return asList(LISTENER);
+    }
+  }
+}
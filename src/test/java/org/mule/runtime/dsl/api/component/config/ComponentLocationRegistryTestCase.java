@@ -0,0 +1,129 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.component.config;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+
+import static java.util.Arrays.asList;
+import static java.util.Optional.of;
+import static java.util.stream.Collectors.toList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.mule.runtime.dsl.api.component.config.DefaultComponentLocation.DefaultLocationPart;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import io.qameta.allure.Feature;
+import org.junit.Before;
+import org.junit.Test;
+
+@Feature(DSL_PARSING)
+public class ComponentLocationRegistryTestCase {
+
+  private ComponentLocationRegistry registry;
+
+  private DefaultComponentLocation flow;
+  private DefaultComponentLocation choice;
+  private DefaultComponentLocation route;
+  private DefaultComponentLocation logger;
+  private DefaultComponentLocation otherFlow;
+
+  @Before
+  public void before() {
+    registry = new ComponentLocationRegistry();
+
+    flow = rootLocation("myFlow");
+    DefaultComponentLocation processors = flow.appendProcessorsPart();
+    choice = part(processors, "3");
+    route = part(part(choice, "route"), "0");
+    logger = part(route.appendProcessorsPart(), "0");
+    otherFlow = rootLocation("otherFlow");
+
+    for (DefaultComponentLocation location : asList(flow, choice, route, logger, otherFlow)) {
+      registry.register(location);
+    }
+  }
+
+  @Test
+  public void lookup() {
+    assertThat(registry.lookup("myFlow/processors/3/route/0").get(), sameInstance(route));
+    assertThat(registry.lookup("myFlow/processors/3/route/0/processors/0").get(), sameInstance(logger));
+    assertThat(registry.lookup("myFlow/processors").isPresent(), is(false));
+    assertThat(registry.lookup("myFlow/processors/4").isPresent(), is(false));
+    assertThat(registry.size(), is(5));
+  }
+
+  @Test
+  public void lookupByRootContainerName() {
+    assertThat(registry.lookupByRootContainerName("myFlow"), contains(flow, choice, route, logger));
+    assertThat(registry.lookupByRootContainerName("otherFlow"), contains(otherFlow));
+    assertThat(registry.lookupByRootContainerName("missingFlow"), is(empty()));
+  }
+
+  @Test
+  public void lookupUnder() {
+    assertThat(registry.lookupUnder("myFlow"), contains(flow, choice, route, logger));
+    assertThat(registry.lookupUnder("myFlow/processors"), contains(choice, route, logger));
+    assertThat(registry.lookupUnder("myFlow/processors/3/route"), contains(route, logger));
+    assertThat(registry.lookupUnder("myFlow/processors/30"), is(empty()));
+    assertThat(registry.lookupUnder("myFlow/process"), is(empty()));
+  }
+
+  @Test
+  public void lookupUnderManyChildren() {
+    DefaultComponentLocation processors = otherFlow.appendProcessorsPart();
+    for (int i = 0; i < 100; ++i) {
+      registry.register(part(processors, Integer.toString(i)));
+    }
+
+    List<String> under = registry.lookupUnder("otherFlow/processors").stream()
+        .map(DefaultComponentLocation::getLocation)
+        .collect(toList());
+
+    assertThat(under.size(), is(100));
+    assertThat(under.get(0), is("otherFlow/processors/0"));
+    assertThat(under.get(99), is("otherFlow/processors/99"));
+    assertThat(registry.lookup("otherFlow/processors/42").get().getLocation(), is("otherFlow/processors/42"));
+  }
+
+  @Test
+  public void registerReplaces() {
+    DefaultComponentLocation newChoice = part(flow.appendProcessorsPart(), "3");
+    registry.register(newChoice);
+
+    assertThat(registry.lookup("myFlow/processors/3").get(), sameInstance(newChoice));
+    assertThat(registry.lookupUnder("myFlow/processors"), contains(newChoice, route, logger));
+    assertThat(registry.lookupByRootContainerName("myFlow"), contains(flow, route, logger, newChoice));
+    assertThat(registry.size(), is(5));
+  }
+
+  @Test
+  public void dispose() {
+    registry.dispose();
+
+    assertThat(registry.size(), is(0));
+    assertThat(registry.lookup("myFlow").isPresent(), is(false));
+    assertThat(registry.lookupByRootContainerName("myFlow"), is(empty()));
+    assertThat(registry.lookupUnder("myFlow"), is(empty()));
+  }
+
+  private static DefaultComponentLocation rootLocation(String name) {
+    return new DefaultComponentLocation(of(name), asList(
+        new DefaultLocationPart(name, Optional.empty(), of("app.xml"), OptionalInt.of(3), OptionalInt.of(5))));
+  }
+
+  private static DefaultComponentLocation part(DefaultComponentLocation location, String partPath) {
+    return location.appendLocationPart(partPath, Optional.empty(), Optional.empty(), OptionalInt.empty(), OptionalInt.empty());
+  }
+}
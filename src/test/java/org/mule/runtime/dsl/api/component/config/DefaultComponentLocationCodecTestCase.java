@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.component.config;
+
+import static org.mule.runtime.api.component.TypedComponentIdentifier.ComponentType.FLOW;
+import static org.mule.runtime.api.component.TypedComponentIdentifier.ComponentType.OPERATION;
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+
+import static java.util.Arrays.asList;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.mule.runtime.api.component.ComponentIdentifier;
+import org.mule.runtime.api.component.TypedComponentIdentifier;
+import org.mule.runtime.api.component.TypedComponentIdentifier.ComponentType;
+import org.mule.runtime.dsl.api.component.config.DefaultComponentLocation.DefaultLocationPart;
+import org.mule.runtime.dsl.api.component.config.DefaultComponentLocationCodec.CompactLocation;
+import org.mule.runtime.dsl.api.component.config.DefaultComponentLocationCodec.Reader;
+import org.mule.runtime.dsl.api.component.config.DefaultComponentLocationCodec.Writer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+
+@Feature(DSL_PARSING)
+public class DefaultComponentLocationCodecTestCase {
+
+  @Test
+  public void roundTrip() throws IOException {
+    List<DefaultComponentLocation> locations = new ArrayList<>();
+    DefaultComponentLocation processors = flowLocation().appendProcessorsPart();
+    for (int i = 0; i < 20; ++i) {
+      locations.add(processors.appendLocationPart(Integer.toString(i), identifier("logger", OPERATION), of("app.xml"),
+                                                  OptionalInt.of(10 + i), OptionalInt.of(5)));
+    }
+
+    List<DefaultComponentLocation> read = readAll(writeAll(locations), locations.size());
+
+    for (int i = 0; i < locations.size(); ++i) {
+      assertThat(read.get(i), is(locations.get(i)));
+      assertThat(read.get(i).getLocation(), is(locations.get(i).getLocation()));
+      assertThat(read.get(i).getLine(), is(locations.get(i).getLine()));
+      assertThat(read.get(i).getColumn(), is(locations.get(i).getColumn()));
+      assertThat(read.get(i).getFileName(), is(of("app.xml")));
+      assertThat(read.get(i).getComponentIdentifier(), is(locations.get(i).getComponentIdentifier()));
+    }
+  }
+
+  @Test
+  public void repeatedValuesAreReferenced() throws IOException {
+    DefaultComponentLocation processors = flowLocation().appendProcessorsPart();
+    DefaultComponentLocation first = processors.appendLocationPart("0", identifier("logger", OPERATION), of("app.xml"),
+                                                                   OptionalInt.of(4), OptionalInt.of(5));
+    DefaultComponentLocation second = processors.appendLocationPart("1", identifier("logger", OPERATION), of("app.xml"),
+                                                                    OptionalInt.of(5), OptionalInt.of(5));
+
+    int firstSize = writeAll(asList(first)).length;
+    int bothSize = writeAll(asList(first, second)).length;
+
+    assertThat(bothSize - firstSize, lessThan(firstSize / 3));
+  }
+
+  @Test
+  public void absentValues() throws IOException {
+    DefaultComponentLocation location = new DefaultComponentLocation(empty(), asList(
+        new DefaultLocationPart(null, empty(), empty(), OptionalInt.empty(), OptionalInt.empty()),
+        new DefaultLocationPart("0", empty(), empty(), OptionalInt.of(0), OptionalInt.of(0))));
+
+    DefaultComponentLocation read = readAll(writeAll(asList(location)), 1).get(0);
+
+    assertThat(read, is(location));
+    assertThat(read.getLocation(), is(location.getLocation()));
+    assertThat(read.getName(), is(empty()));
+    assertThat(read.getParts().get(0).getPartPath(), is(nullValue()));
+    assertThat(read.getParts().get(0).getLine(), is(OptionalInt.empty()));
+    assertThat(read.getLine(), is(OptionalInt.of(0)));
+  }
+
+  @Test
+  public void readLocationsAreInterned() throws IOException {
+    DefaultComponentLocation location = flowLocation().appendProcessorsPart().intern();
+
+    assertThat(readAll(writeAll(asList(location)), 1).get(0), sameInstance(location));
+  }
+
+  @Test(expected = InvalidObjectException.class)
+  public void unsupportedVersion() throws IOException {
+    DefaultComponentLocationCodec.reader(new DataInputStream(new ByteArrayInputStream(new byte[] {99}))).read();
+  }
+
+  @Test
+  public void compactLocationSerialization() throws Exception {
+    DefaultComponentLocation location = flowLocation()
+        .appendProcessorsPart()
+        .appendLocationPart("0", identifier("logger", OPERATION), of("app.xml"), OptionalInt.of(4), OptionalInt.of(7));
+
+    byte[] compact = javaSerialize(new CompactLocation(location));
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(compact))) {
+      assertThat(((CompactLocation) ois.readObject()).getLocation(), is(location));
+    }
+
+    assertThat(compact.length, lessThan(javaSerialize(location).length / 2));
+  }
+
+  private static DefaultComponentLocation flowLocation() {
+    return new DefaultComponentLocation(of("codecFlow"), asList(
+        new DefaultLocationPart("codecFlow", identifier("flow", FLOW), of("app.xml"), OptionalInt.of(3), OptionalInt.of(5))));
+  }
+
+  private static Optional<TypedComponentIdentifier> identifier(String name, ComponentType type) {
+    return of(TypedComponentIdentifier.builder()
+        .type(type)
+        .identifier(ComponentIdentifier.builder()
+            .namespace("mule")
+            .namespaceUri("http://www.mulesoft.org/schema/mule/core")
+            .name(name)
+            .build())
+        .build());
+  }
+
+  private static byte[] writeAll(List<DefaultComponentLocation> locations) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream output = new DataOutputStream(bytes)) {
+      Writer writer = DefaultComponentLocationCodec.writer(output);
+      for (DefaultComponentLocation location : locations) {
+        writer.write(location);
+      }
+    }
+    return bytes.toByteArray();
+  }
+
+  private static List<DefaultComponentLocation> readAll(byte[] written, int count) throws IOException {
+    List<DefaultComponentLocation> read = new ArrayList<>();
+    try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(written))) {
+      Reader reader = DefaultComponentLocationCodec.reader(input);
+      for (int i = 0; i < count; ++i) {
+        read.add(reader.read());
+      }
+    }
+    return read;
+  }
+
+  private static byte[] javaSerialize(Object object) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+      oos.writeObject(object);
+    }
+    return bytes.toByteArray();
+  }
+}
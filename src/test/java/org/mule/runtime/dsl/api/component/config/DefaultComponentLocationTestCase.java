@@ -0,0 +1,236 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.component.config;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+
+import static java.lang.reflect.Modifier.isTransient;
+import static java.util.Arrays.asList;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.stream.Collectors.toList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.mule.runtime.api.component.location.LocationPart;
+import org.mule.runtime.dsl.api.component.config.DefaultComponentLocation.DefaultLocationPart;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+
+@Feature(DSL_PARSING)
+public class DefaultComponentLocationTestCase {
+
+  // a location serialized when the parts were kept in a LinkedList
+  private static final String LEGACY_SERIALIZED_LOCATION = "rO0ABXNyAEJvcmcubXVsZS5ydW50aW1lLmRzbC5hcGkuY29tcG9uZW50LmNvbmZpZy5EZWZhdWx0Q29tcG9uZW50TG9jYXRpb25E"
+      + "zur7/sg6LwIAA0wACGxvY2F0aW9udAASTGphdmEvbGFuZy9TdHJpbmc7TAAEbmFtZXEAfgABTAAFcGFydHN0ABZMamF2YS91dGls"
+      + "L0xpbmtlZExpc3Q7eHB0ABNteUZsb3cvcHJvY2Vzc29ycy8wdAAGbXlGbG93c3IAFGphdmEudXRpbC5MaW5rZWRMaXN0DClTXUpg"
+      + "iCIDAAB4cHcEAAAAA3NyAFZvcmcubXVsZS5ydW50aW1lLmRzbC5hcGkuY29tcG9uZW50LmNvbmZpZy5EZWZhdWx0Q29tcG9uZW50"
+      + "TG9jYXRpb24kRGVmYXVsdExvY2F0aW9uUGFydE/m6XwTgfvaAwADTAAIZmlsZU5hbWVxAH4AAUwADnBhcnRJZGVudGlmaWVydAA5"
+      + "TG9yZy9tdWxlL3J1bnRpbWUvYXBpL2NvbXBvbmVudC9UeXBlZENvbXBvbmVudElkZW50aWZpZXI7TAAIcGFydFBhdGhxAH4AAXhw"
+      + "dAAHYXBwLnhtbHBxAH4ABXNyABFqYXZhLmxhbmcuSW50ZWdlchLioKT3gYc4AgABSQAFdmFsdWV4cgAQamF2YS5sYW5nLk51bWJl"
+      + "coaslR0LlOCLAgAAeHAAAAADc3EAfgAMAAAABXhzcQB+AAhwcHQACnByb2Nlc3NvcnNwcHhzcQB+AAhxAH4AC3B0AAEwc3EAfgAM"
+      + "AAAABHNxAH4ADAAAAAd4eA==";
+
+  @Test
+  public void appendedParts() {
+    DefaultComponentLocation location = flowLocation()
+        .appendProcessorsPart()
+        .appendLocationPart("0", empty(), of("app.xml"), OptionalInt.of(4), OptionalInt.of(7));
+
+    assertThat(location.getLocation(), is("myFlow/processors/0"));
+    assertThat(paths(location.getParts()), contains("myFlow", "processors", "0"));
+    assertThat(location.getRootContainerName(), is("myFlow"));
+    assertThat(location.getFileName(), is(of("app.xml")));
+    assertThat(location.getLine(), is(OptionalInt.of(4)));
+    assertThat(location.getColumn(), is(OptionalInt.of(7)));
+  }
+
+  @Test
+  public void appendDoesNotModifyPrefix() {
+    DefaultComponentLocation processors = flowLocation().appendProcessorsPart();
+    DefaultComponentLocation first = processors.appendLocationPart("0", empty(), empty(), OptionalInt.empty(),
+                                                                   OptionalInt.empty());
+    DefaultComponentLocation second = processors.appendLocationPart("1", empty(), empty(), OptionalInt.empty(),
+                                                                    OptionalInt.empty());
+
+    assertThat(processors.getLocation(), is("myFlow/processors"));
+    assertThat(first.getLocation(), is("myFlow/processors/0"));
+    assertThat(second.getLocation(), is("myFlow/processors/1"));
+    assertThat(first.getParts().get(1), sameInstance(second.getParts().get(1)));
+  }
+
+  @Test
+  public void appendedEqualToBuiltFromParts() {
+    DefaultComponentLocation appended = flowLocation().appendRoutePart();
+    DefaultComponentLocation fromParts = new DefaultComponentLocation(of("myFlow"), asList(
+        new DefaultLocationPart("myFlow", empty(), of("app.xml"), OptionalInt.of(3), OptionalInt.of(5)),
+        new DefaultLocationPart("route", empty(), empty(), OptionalInt.empty(), OptionalInt.empty())));
+
+    assertThat(appended, is(fromParts));
+    assertThat(appended.hashCode(), is(fromParts.hashCode()));
+  }
+
+  @Test
+  public void hashOfNameLocationAndParts() {
+    DefaultComponentLocation location = flowLocation()
+        .appendProcessorsPart()
+        .appendLocationPart("0", empty(), of("app.xml"), OptionalInt.of(4), OptionalInt.of(7));
+
+    int expected = Objects.hashCode("myFlow");
+    expected = 31 * expected + location.getParts().hashCode();
+    expected = 31 * expected + location.getLocation().hashCode();
+    assertThat(location.hashCode(), is(expected));
+  }
+
+  @Test
+  public void notEqualWithDifferentPart() {
+    DefaultComponentLocation processors = flowLocation().appendProcessorsPart();
+
+    assertThat(processors.appendLocationPart("0", empty(), of("app.xml"), OptionalInt.of(4), OptionalInt.of(7)),
+               not(processors.appendLocationPart("0", empty(), of("app.xml"), OptionalInt.of(5), OptionalInt.of(7))));
+    assertThat(processors, not(flowLocation().appendRoutePart()));
+    assertThat(processors, not(flowLocation()));
+  }
+
+  @Test
+  public void intern() {
+    DefaultComponentLocation location = flowLocation().appendRoutePart().intern();
+
+    assertThat(flowLocation().appendRoutePart().intern(), sameInstance(location));
+  }
+
+  @Test
+  public void internWithSameLocationStringButDifferentPart() {
+    DefaultComponentLocation location = flowLocation().appendLocationPart("logger", empty(), of("app.xml"),
+                                                                          OptionalInt.of(10), OptionalInt.of(1))
+        .intern();
+    DefaultComponentLocation other = flowLocation().appendLocationPart("logger", empty(), of("app.xml"),
+                                                                       OptionalInt.of(20), OptionalInt.of(1));
+
+    assertThat(other.intern(), sameInstance(other));
+    assertThat(location.intern(), sameInstance(location));
+  }
+
+  @Test
+  public void deserializedIsInterned() throws Exception {
+    DefaultComponentLocation location = flowLocation().appendProcessorsPart().intern();
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+      oos.writeObject(location);
+    }
+
+    assertThat(deserialize(baos.toByteArray()), sameInstance(location));
+  }
+
+  @Test
+  public void deepLocation() {
+    DefaultComponentLocation location = flowLocation();
+    for (int i = 0; i < 10000; ++i) {
+      location = location.appendProcessorsPart();
+    }
+
+    assertThat(location.getParts().size(), is(10001));
+    assertThat(location.getRootContainerName(), is("myFlow"));
+  }
+
+  @Test
+  public void serialization() throws Exception {
+    DefaultComponentLocation location = flowLocation()
+        .appendProcessorsPart()
+        .appendLocationPart("0", empty(), of("app.xml"), OptionalInt.of(4), OptionalInt.of(7));
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+      oos.writeObject(location);
+    }
+
+    DefaultComponentLocation deserialized = deserialize(baos.toByteArray());
+    assertThat(deserialized, is(location));
+    assertThat(deserialized.getRootContainerName(), is("myFlow"));
+    assertThat(deserialized.getLine(), is(OptionalInt.of(4)));
+  }
+
+  @Test
+  public void legacySerializedForm() throws Exception {
+    DefaultComponentLocation deserialized = deserialize(Base64.getDecoder().decode(LEGACY_SERIALIZED_LOCATION));
+
+    assertThat(deserialized.getLocation(), is("myFlow/processors/0"));
+    assertThat(deserialized.getName(), is(of("myFlow")));
+    assertThat(paths(deserialized.getParts()), contains("myFlow", "processors", "0"));
+    assertThat(deserialized.getRootContainerName(), is("myFlow"));
+    assertThat(deserialized.getLine(), is(OptionalInt.of(4)));
+    assertThat(deserialized, is(flowLocation()
+        .appendProcessorsPart()
+        .appendLocationPart("0", empty(), of("app.xml"), OptionalInt.of(4), OptionalInt.of(7))));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void importChainUnmodifiable() {
+    List<DefaultLocationPart> parts =
+        asList(new DefaultLocationPart("myFlow", empty(), of("app.xml"), OptionalInt.of(3), OptionalInt.of(5)));
+    DefaultComponentLocation location =
+        new DefaultComponentLocation(of("myFlow"), parts, new ArrayList<>(asList(URI.create("file:/main.xml"))));
+
+    location.getImportChain().clear();
+  }
+
+  @Test
+  public void singleComponentLocationCacheStatistics() {
+    DefaultComponentLocation.from("mule:flow-ref");
+    long hits = DefaultComponentLocation.getSingleComponentLocationCacheStatistics().getHitCount();
+
+    DefaultComponentLocation.from("mule:flow-ref");
+
+    SingleComponentLocationCacheStatistics statistics = DefaultComponentLocation.getSingleComponentLocationCacheStatistics();
+    assertThat(statistics.getHitCount(), is(hits + 1));
+    assertThat(statistics.getMissCount(), greaterThan(0L));
+    assertThat(statistics.getHitRate(), greaterThan(0.0));
+  }
+
+  @Test
+  public void partsFieldKeptForFieldSerializers() throws Exception {
+    Field parts = DefaultComponentLocation.class.getDeclaredField("parts");
+
+    assertThat(parts.getType(), sameInstance(LinkedList.class));
+    assertThat(isTransient(parts.getModifiers()), is(false));
+  }
+
+  private static DefaultComponentLocation flowLocation() {
+    return new DefaultComponentLocation(of("myFlow"), asList(
+        new DefaultLocationPart("myFlow", empty(), of("app.xml"), OptionalInt.of(3), OptionalInt.of(5))));
+  }
+
+  private static DefaultComponentLocation deserialize(byte[] serialized) throws Exception {
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+      return (DefaultComponentLocation) ois.readObject();
+    }
+  }
+
+  private static List<String> paths(List<LocationPart> parts) {
+    return parts.stream().map(LocationPart::getPartPath).collect(toList());
+  }
+}
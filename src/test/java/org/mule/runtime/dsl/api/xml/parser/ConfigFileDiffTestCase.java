@@ -0,0 +1,192 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.xml.parser;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+import static org.mule.runtime.dsl.api.xml.parser.ConfigFileDiff.ChangeType.ADDED;
+import static org.mule.runtime.dsl.api.xml.parser.ConfigFileDiff.ChangeType.MODIFIED;
+import static org.mule.runtime.dsl.api.xml.parser.ConfigFileDiff.ChangeType.REMOVED;
+import static org.mule.runtime.dsl.api.xml.parser.ConfigFileDiff.diff;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.mule.runtime.dsl.api.xml.parser.ConfigFileDiff.Change;
+
+import java.util.List;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+
+@Feature(DSL_PARSING)
+public class ConfigFileDiffTestCase {
+
+  @Test
+  public void identicalConfigs() {
+    assertThat(diff(singletonList(app("hello")), singletonList(app("hello"))).isEmpty(), is(true));
+  }
+
+  @Test
+  public void nestedModification() {
+    ConfigFileDiff diff = diff(singletonList(app("hello")), singletonList(app("bye")));
+
+    assertThat(describe(diff.getChanges()), contains("MODIFIED app.xml#main/1"));
+    Change change = diff.getChanges().get(0);
+    assertThat(change.getPrevious().getTextContent(), is("hello"));
+    assertThat(change.getCurrent().getTextContent(), is("bye"));
+  }
+
+  @Test
+  public void attributeModificationReportedAtElement() {
+    ConfigFile previous = file("app.xml", flow("main", logger("INFO")));
+    ConfigFile current = file("app.xml", flow("main", logger("DEBUG")));
+
+    assertThat(describe(diff(singletonList(previous), singletonList(current)).getChanges()),
+               contains("MODIFIED app.xml#main/0"));
+  }
+
+  @Test
+  public void childAddedReportedAtParent() {
+    ConfigFile previous = file("app.xml", flow("main", logger("INFO")));
+    ConfigFile current = file("app.xml", flow("main", logger("INFO"), logger("DEBUG")));
+
+    assertThat(describe(diff(singletonList(previous), singletonList(current)).getChanges()),
+               contains("MODIFIED app.xml#main"));
+  }
+
+  @Test
+  public void globalElementsMatchedByName() {
+    ConfigFile previous = file("app.xml", flow("first", logger("INFO")), flow("second", logger("INFO")));
+    ConfigFile current = file("app.xml", flow("second", logger("INFO")), flow("third", logger("INFO")));
+
+    ConfigFileDiff diff = diff(singletonList(previous), singletonList(current));
+
+    assertThat(describe(diff.getChanges()), contains("ADDED app.xml#third", "REMOVED app.xml#first"));
+    assertThat(describe(diff.getChanges(ADDED)), contains("ADDED app.xml#third"));
+    assertThat(describe(diff.getChanges(REMOVED)), contains("REMOVED app.xml#first"));
+    assertThat(diff.getChanges(MODIFIED).isEmpty(), is(true));
+    assertThat(diff.getChanges(ADDED).get(0).getPrevious(), is(nullValue()));
+    assertThat(diff.getChanges(REMOVED).get(0).getCurrent(), is(nullValue()));
+  }
+
+  @Test
+  public void reorderedGlobalElements() {
+    ConfigFile previous = file("app.xml", flow("first", logger("INFO")), flow("second", logger("INFO")));
+    ConfigFile current = file("app.xml", flow("second", logger("INFO")), flow("first", logger("INFO")));
+
+    assertThat(diff(singletonList(previous), singletonList(current)).isEmpty(), is(true));
+  }
+
+  @Test
+  public void unnamedGlobalElementsMatchedByType() {
+    ConfigFile previous = file("app.xml", logger("INFO"), flow("main", logger("INFO")));
+    ConfigFile current = file("app.xml", flow("main", logger("INFO")), logger("WARN"));
+
+    assertThat(describe(diff(singletonList(previous), singletonList(current)).getChanges()),
+               contains("MODIFIED app.xml#1"));
+  }
+
+  @Test
+  public void globalElementsWithSameName() {
+    ConfigFile previous = file("app.xml", flow("main", logger("INFO")), flow("main", logger("INFO")));
+    ConfigFile current = file("app.xml", flow("main", logger("INFO")), flow("main", logger("DEBUG")));
+
+    assertThat(describe(diff(singletonList(previous), singletonList(current)).getChanges()),
+               contains("MODIFIED app.xml#1/0"));
+  }
+
+  @Test
+  public void globalElementWithSameNameAdded() {
+    ConfigFile previous = file("app.xml", flow("main", logger("INFO")));
+    ConfigFile current = file("app.xml", flow("main", logger("INFO")), flow("main", logger("DEBUG")));
+
+    assertThat(describe(diff(singletonList(previous), singletonList(current)).getChanges()),
+               contains("ADDED app.xml#1"));
+  }
+
+  @Test
+  public void rootAttributesModification() {
+    ConfigLine previousRoot = root(flow("main", logger("INFO")))
+        .build();
+    ConfigLine currentRoot = root(flow("main", logger("INFO")), flow("other", logger("INFO")))
+        .addConfigAttribute("xmlns:http", "http://www.mulesoft.org/schema/mule/http", false)
+        .build();
+
+    assertThat(describe(diff(singletonList(new ConfigFile("app.xml", singletonList(previousRoot))),
+                             singletonList(new ConfigFile("app.xml", singletonList(currentRoot))))
+        .getChanges()),
+               contains("MODIFIED app.xml#", "ADDED app.xml#other"));
+  }
+
+  @Test
+  public void filesAddedAndRemoved() {
+    ConfigFile kept = app("hello");
+    ConfigFile removed = file("removed.xml", flow("removed", logger("INFO")));
+    ConfigFile added = file("added.xml", flow("added", logger("INFO")));
+
+    ConfigFileDiff diff = diff(asList(kept, removed), asList(app("hello"), added));
+
+    assertThat(describe(diff.getChanges()), contains("ADDED added.xml#", "REMOVED removed.xml#"));
+    assertThat(diff.getChanges(ADDED).get(0).getCurrent(), sameInstance(added.getConfigLines().get(0)));
+  }
+
+  @Test
+  public void fromEmpty() {
+    assertThat(describe(diff(emptyList(), singletonList(app("hello"))).getChanges()), contains("ADDED app.xml#"));
+  }
+
+  private static List<String> describe(List<Change> changes) {
+    return changes.stream().map(Change::toString).collect(toList());
+  }
+
+  private static ConfigFile app(String payload) {
+    return file("app.xml", flow("main", logger("INFO"), new ConfigLine.Builder()
+        .setNamespace("mule")
+        .setIdentifier("set-payload")
+        .setTextContent(payload)
+        .build()));
+  }
+
+  private static ConfigFile file(String filename, ConfigLine... globalElements) {
+    return new ConfigFile(filename, singletonList(root(globalElements).build()));
+  }
+
+  private static ConfigLine.Builder root(ConfigLine... globalElements) {
+    ConfigLine.Builder builder = new ConfigLine.Builder().setNamespace("mule").setIdentifier("mule");
+    for (ConfigLine globalElement : globalElements) {
+      builder.addChild(globalElement);
+    }
+    return builder;
+  }
+
+  private static ConfigLine flow(String name, ConfigLine... processors) {
+    ConfigLine.Builder builder = new ConfigLine.Builder()
+        .setNamespace("mule")
+        .setIdentifier("flow")
+        .addConfigAttribute("name", name, false);
+    for (ConfigLine processor : processors) {
+      builder.addChild(processor);
+    }
+    return builder.build();
+  }
+
+  private static ConfigLine logger(String level) {
+    return new ConfigLine.Builder()
+        .setNamespace("mule")
+        .setIdentifier("logger")
+        .addConfigAttribute("level", level, false)
+        .build();
+  }
+}
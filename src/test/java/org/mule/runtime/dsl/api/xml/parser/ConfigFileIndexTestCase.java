@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.xml.parser;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import io.qameta.allure.Feature;
+import org.junit.Before;
+import org.junit.Test;
+
+@Feature(DSL_PARSING)
+public class ConfigFileIndexTestCase {
+
+  private static final String CORE = "http://www.mulesoft.org/schema/mule/core";
+  private static final String HTTP = "http://www.mulesoft.org/schema/mule/http";
+
+  private ConfigLine root;
+  private ConfigLine importA;
+  private ConfigLine importB;
+  private ConfigLine listenerConfig;
+  private ConfigLine flow;
+  private ConfigLine logger;
+  private ConfigLine setPayload;
+  private ConfigFile configFile;
+
+  @Before
+  public void setUp() {
+    importA = line(CORE, "import", 2, 2).addConfigAttribute("file", "a.xml", false).build();
+    importB = line(CORE, "import", 3, 3).addConfigAttribute("file", "b.xml", false).build();
+    listenerConfig = line(HTTP, "listener-config", 5, 7).addConfigAttribute("name", "listenerConfig", false).build();
+    logger = line(CORE, "logger", 10, 10).build();
+    setPayload = line(CORE, "set-payload", 11, 13).build();
+    flow = line(CORE, "flow", 9, 14).addConfigAttribute("name", "main", false)
+        .addChild(logger)
+        .addChild(setPayload)
+        .build();
+    root = line(CORE, "mule", 1, 16)
+        .addChild(importA)
+        .addChild(importB)
+        .addChild(listenerConfig)
+        .addChild(flow)
+        .build();
+
+    configFile = new ConfigFile("test.xml", singletonList(root));
+  }
+
+  private ConfigLine.Builder line(String namespaceUri, String identifier, int startLine, int endLine) {
+    return new ConfigLine.Builder()
+        .setNamespaceUri(namespaceUri)
+        .setIdentifier(identifier)
+        .setLineNumber(startLine)
+        .setEndLineNumber(endLine);
+  }
+
+  @Test
+  public void indexIsBuiltOnce() {
+    assertThat(configFile.getIndex(), sameInstance(configFile.getIndex()));
+  }
+
+  @Test
+  public void globalElementsByType() {
+    assertThat(configFile.getIndex().findGlobalElements(CORE, "import"), contains(importA, importB));
+    assertThat(configFile.getIndex().findGlobalElements(HTTP, "listener-config"), contains(listenerConfig));
+    assertThat(configFile.getIndex().findGlobalElements(HTTP, "import").isEmpty(), is(true));
+    assertThat(configFile.getIndex().findGlobalElements("http://unknown", "import").isEmpty(), is(true));
+  }
+
+  @Test
+  public void nestedElementsAreNotGlobal() {
+    assertThat(configFile.getIndex().findGlobalElements(CORE, "logger").isEmpty(), is(true));
+  }
+
+  @Test
+  public void globalElementsByName() {
+    assertThat(configFile.getIndex().findGlobalElement("main"), is(of(flow)));
+    assertThat(configFile.getIndex().findGlobalElement("listenerConfig"), is(of(listenerConfig)));
+    assertThat(configFile.getIndex().findGlobalElement("missing"), is(empty()));
+  }
+
+  @Test
+  public void configLineAtLine() {
+    ConfigFileIndex index = configFile.getIndex();
+
+    assertThat(index.findConfigLineAt(1), is(of(root)));
+    assertThat(index.findConfigLineAt(2), is(of(importA)));
+    assertThat(index.findConfigLineAt(4), is(of(root)));
+    assertThat(index.findConfigLineAt(6), is(of(listenerConfig)));
+    assertThat(index.findConfigLineAt(9), is(of(flow)));
+    assertThat(index.findConfigLineAt(10), is(of(logger)));
+    assertThat(index.findConfigLineAt(12), is(of(setPayload)));
+    assertThat(index.findConfigLineAt(14), is(of(flow)));
+    assertThat(index.findConfigLineAt(16), is(of(root)));
+    assertThat(index.findConfigLineAt(17), is(empty()));
+    assertThat(index.findConfigLineAt(0), is(empty()));
+  }
+
+  @Test
+  public void unknownEndLineSpansChildren() {
+    ConfigLine child = line(CORE, "logger", 3, 3).build();
+    ConfigLine parent = new ConfigLine.Builder().setNamespaceUri(CORE).setIdentifier("flow").setLineNumber(2)
+        .addChild(child)
+        .build();
+    ConfigLine otherRoot = new ConfigLine.Builder().setNamespaceUri(CORE).setIdentifier("mule").setLineNumber(1)
+        .addChild(parent)
+        .build();
+
+    ConfigFileIndex index = new ConfigFile("other.xml", asList(otherRoot)).getIndex();
+
+    assertThat(index.findConfigLineAt(2), is(of(parent)));
+    assertThat(index.findConfigLineAt(3), is(of(child)));
+    assertThat(index.findConfigLineAt(4), is(empty()));
+  }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.api.xml.parser;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+
+@Feature(DSL_PARSING)
+public class ConfigLineTestCase {
+
+  @Test
+  public void attributesLookup() {
+    ConfigLine configLine = new ConfigLine.Builder()
+        .setIdentifier("request")
+        .addConfigAttribute("path", "/test", false)
+        .addConfigAttribute("method", "GET", true)
+        .addConfigAttribute("config-ref", "cfg", false)
+        .build();
+
+    Map<String, SimpleConfigAttribute> attributes = configLine.getConfigAttributes();
+    assertThat(attributes.size(), is(3));
+    assertThat(attributes.get("path").getValue(), is("/test"));
+    assertThat(attributes.get("method").isValueFromSchema(), is(true));
+    assertThat(attributes.get("config-ref").getValue(), is("cfg"));
+    assertThat(attributes.get("missing"), is(nullValue()));
+    assertThat(attributes.containsKey("path"), is(true));
+    assertThat(attributes.containsKey(1), is(false));
+  }
+
+  @Test
+  public void lastAttributeValueWins() {
+    ConfigLine configLine = new ConfigLine.Builder()
+        .addConfigAttribute("name", "first", false)
+        .addConfigAttribute("name", "second", false)
+        .build();
+
+    assertThat(configLine.getConfigAttributes().size(), is(1));
+    assertThat(configLine.getConfigAttributes().get("name").getValue(), is("second"));
+  }
+
+  @Test
+  public void customAttributesEqualToHashMap() {
+    ConfigLine configLine = new ConfigLine.Builder()
+        .addCustomAttribute("b", 2)
+        .addCustomAttribute("a", 1)
+        .addCustomAttribute("c", null)
+        .build();
+
+    Map<String, Object> expected = new HashMap<>();
+    expected.put("a", 1);
+    expected.put("b", 2);
+    expected.put("c", null);
+
+    assertThat(configLine.getCustomAttributes(), is(expected));
+    assertThat(expected, is(configLine.getCustomAttributes()));
+    assertThat(configLine.getCustomAttributes().hashCode(), is(expected.hashCode()));
+    assertThat(configLine.getCustomAttributes().containsKey("c"), is(true));
+  }
+
+  @Test
+  public void gettersDoNotCopy() {
+    ConfigLine configLine = new ConfigLine.Builder()
+        .addConfigAttribute("name", "value", false)
+        .addCustomAttribute("custom", "value")
+        .addChild(new ConfigLine.Builder().setIdentifier("child").build())
+        .build();
+
+    assertThat(configLine.getConfigAttributes(), sameInstance(configLine.getConfigAttributes()));
+    assertThat(configLine.getCustomAttributes(), sameInstance(configLine.getCustomAttributes()));
+    assertThat(configLine.getChildren(), sameInstance(configLine.getChildren()));
+  }
+
+  @Test
+  public void emptyConfigLine() {
+    ConfigLine configLine = new ConfigLine.Builder().setIdentifier("empty").build();
+
+    assertThat(configLine.getConfigAttributes().isEmpty(), is(true));
+    assertThat(configLine.getCustomAttributes().isEmpty(), is(true));
+    assertThat(configLine.getChildren().isEmpty(), is(true));
+  }
+
+  @Test
+  public void childrenKeepOrder() {
+    ConfigLine first = new ConfigLine.Builder().setIdentifier("first").build();
+    ConfigLine second = new ConfigLine.Builder().setIdentifier("second").build();
+    ConfigLine third = new ConfigLine.Builder().setIdentifier("third").build();
+
+    ConfigLine configLine = new ConfigLine.Builder()
+        .addChild(first)
+        .addChild(second)
+        .addChild(third)
+        .build();
+
+    assertThat(configLine.getChildren(), contains(first, second, third));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void configAttributesAreReadOnly() {
+    new ConfigLine.Builder().addConfigAttribute("name", "value", false).build()
+        .getConfigAttributes().remove("name");
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void customAttributesAreReadOnly() {
+    new ConfigLine.Builder().addCustomAttribute("name", "value").build()
+        .getCustomAttributes().put("other", "value");
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void childrenAreReadOnly() {
+    new ConfigLine.Builder().build().getChildren().add(new ConfigLine());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void builtChildrenAreReadOnly() {
+    new ConfigLine.Builder().addChild(new ConfigLine.Builder().setIdentifier("child").build()).build()
+        .getChildren().add(new ConfigLine());
+  }
+
+  @Test
+  public void attributesIteratedByName() {
+    ConfigLine configLine = new ConfigLine.Builder()
+        .addConfigAttribute("path", "/test", false)
+        .addConfigAttribute("config-ref", "cfg", false)
+        .addConfigAttribute("method", "GET", false)
+        .addCustomAttribute("z", 1)
+        .addCustomAttribute("a", 2)
+        .build();
+
+    assertThat(configLine.getConfigAttributes().keySet(), contains("config-ref", "method", "path"));
+    assertThat(configLine.getCustomAttributes().keySet(), contains("a", "z"));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void builderCannotBeModifiedAfterBuild() {
+    ConfigLine.Builder builder = new ConfigLine.Builder();
+    builder.build();
+    builder.addConfigAttribute("name", "value", false);
+  }
+
+  @Test
+  public void equalityWithSameStructure() {
+    ConfigLine child = new ConfigLine.Builder().setIdentifier("child").build();
+    ConfigLine one = new ConfigLine.Builder().setNamespace("ns").setIdentifier("id").addChild(child).build();
+    ConfigLine other = new ConfigLine.Builder().setNamespace("ns").setIdentifier("id").addChild(child).build();
+    ConfigLine different = new ConfigLine.Builder().setNamespace("ns").setIdentifier("other").addChild(child).build();
+
+    assertThat(one, is(other));
+    assertThat(one.hashCode(), is(other.hashCode()));
+    assertThat(one, not(is(different)));
+  }
+
+  @Test
+  public void sameStructureSameDigest() {
+    assertThat(flow("hello").getStructuralDigest(), is(flow("hello").getStructuralDigest()));
+    assertThat(flow("hello"), is(flow("hello")));
+  }
+
+  @Test
+  public void digestChangesWithNestedChange() {
+    ConfigLine original = flow("hello");
+    ConfigLine changed = flow("bye");
+
+    assertThat(original.getStructuralDigest(), not(is(changed.getStructuralDigest())));
+    assertThat(original, not(is(changed)));
+    assertThat(original.getChildren().get(0), is(changed.getChildren().get(0)));
+  }
+
+  @Test
+  public void digestChangesWithAttributeOrigin() {
+    ConfigLine fromUser = new ConfigLine.Builder().setIdentifier("logger").addConfigAttribute("level", "INFO", false).build();
+    ConfigLine fromSchema = new ConfigLine.Builder().setIdentifier("logger").addConfigAttribute("level", "INFO", true).build();
+
+    assertThat(fromUser.getStructuralDigest(), not(is(fromSchema.getStructuralDigest())));
+    assertThat(fromUser, not(is(fromSchema)));
+  }
+
+  @Test
+  public void digestDoesNotDependOnAttributesOrder() {
+    ConfigLine one = new ConfigLine.Builder().setIdentifier("logger")
+        .addConfigAttribute("level", "INFO", false)
+        .addConfigAttribute("message", "hi", false)
+        .build();
+    ConfigLine other = new ConfigLine.Builder().setIdentifier("logger")
+        .addConfigAttribute("message", "hi", false)
+        .addConfigAttribute("level", "INFO", false)
+        .build();
+
+    assertThat(one.getStructuralDigest(), is(other.getStructuralDigest()));
+    assertThat(one, is(other));
+  }
+
+  @Test
+  public void digestIgnoresLocationAndSource() {
+    ConfigLine one = new ConfigLine.Builder().setIdentifier("logger").setLineNumber(3).setSourceCode("<logger/>").build();
+    ConfigLine other = new ConfigLine.Builder().setIdentifier("logger").setLineNumber(10).setSourceCode("<logger />").build();
+
+    assertThat(one.getStructuralDigest(), is(other.getStructuralDigest()));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void textContentSetAfterBuild() {
+    ConfigLine.Builder builder = new ConfigLine.Builder().setIdentifier("set-payload");
+    builder.build();
+
+    builder.setTextContent("payload");
+  }
+
+  private ConfigLine flow(String text) {
+    return new ConfigLine.Builder()
+        .setNamespace("mule")
+        .setIdentifier("flow")
+        .addConfigAttribute("name", "main", false)
+        .addChild(new ConfigLine.Builder().setNamespace("mule").setIdentifier("logger").build())
+        .addChild(new ConfigLine.Builder().setNamespace("mule").setIdentifier("set-payload").setTextContent(text).build())
+        .build();
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.internal.component;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+import static org.mule.runtime.dsl.api.component.CommonTypeConverters.stringToClassConverter;
+
+import static java.lang.Thread.currentThread;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+
+@Feature(DSL_PARSING)
+public class ClassResolutionCacheTestCase {
+
+  private final ClassResolutionCache cache = new ClassResolutionCache(ClassResolutionCache.DEFAULT_MAXIMUM_NOT_FOUND);
+  private final CountingClassLoader classLoader = new CountingClassLoader();
+
+  @Test
+  public void resolvedClassIsCached() throws ClassNotFoundException {
+    assertThat(cache.resolve(classLoader, String.class.getName()), sameInstance(String.class));
+    assertThat(cache.resolve(classLoader, String.class.getName()), sameInstance(String.class));
+
+    assertThat(classLoader.loads.get(), is(1));
+    assertThat(cache.getMissCount(), is(1L));
+    assertThat(cache.getHitCount(), is(1L));
+  }
+
+  @Test
+  public void notFoundIsCached() {
+    assertNotFound("org.mule.Missing");
+    assertNotFound("org.mule.Missing");
+
+    assertThat(classLoader.loads.get(), is(1));
+    assertThat(cache.getMissCount(), is(1L));
+    assertThat(cache.getNotFoundHitCount(), is(1L));
+  }
+
+  @Test
+  public void cachedByClassLoader() throws ClassNotFoundException {
+    CountingClassLoader otherClassLoader = new CountingClassLoader();
+
+    cache.resolve(classLoader, String.class.getName());
+    cache.resolve(otherClassLoader, String.class.getName());
+
+    assertThat(classLoader.loads.get(), is(1));
+    assertThat(otherClassLoader.loads.get(), is(1));
+  }
+
+  @Test
+  public void invalidate() throws ClassNotFoundException {
+    cache.resolve(classLoader, String.class.getName());
+    assertNotFound("org.mule.Missing");
+    cache.invalidate(classLoader);
+
+    cache.resolve(classLoader, String.class.getName());
+    assertNotFound("org.mule.Missing");
+
+    assertThat(classLoader.loads.get(), is(4));
+  }
+
+  @Test
+  public void converterUsesContextClassLoader() {
+    ClassLoader originalClassLoader = currentThread().getContextClassLoader();
+    currentThread().setContextClassLoader(classLoader);
+    try {
+      assertThat(stringToClassConverter().convert(String.class.getName()), sameInstance(String.class));
+      assertThat(stringToClassConverter().convert(String.class.getName()), sameInstance(String.class));
+      assertThat(classLoader.loads.get(), is(1));
+    } finally {
+      currentThread().setContextClassLoader(originalClassLoader);
+    }
+  }
+
+  @Test
+  public void converterNotFound() {
+    try {
+      stringToClassConverter().convert("org.mule.Missing");
+      throw new AssertionError("Expected the class not to be found");
+    } catch (RuntimeException e) {
+      assertThat(e.getCause(), instanceOf(ClassNotFoundException.class));
+    }
+  }
+
+  private void assertNotFound(String className) {
+    try {
+      cache.resolve(classLoader, className);
+      throw new AssertionError("Expected " + className + " not to be found");
+    } catch (ClassNotFoundException e) {
+      assertThat(e.getMessage(), is(className));
+    }
+  }
+
+  private static final class CountingClassLoader extends ClassLoader {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private CountingClassLoader() {
+      super(ClassResolutionCacheTestCase.class.getClassLoader());
+    }
+
+    @Override
+    public Class<?> loadClass(String name) throws ClassNotFoundException {
+      loads.incrementAndGet();
+      return super.loadClass(name);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.internal.component.config;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+
+import static java.util.Collections.emptyList;
+import static java.util.Optional.of;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.mule.runtime.dsl.api.component.config.DefaultComponentLocation;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+
+@Feature(DSL_PARSING)
+public class SingleComponentLocationCacheTestCase {
+
+  @Test
+  public void sharedLocations() {
+    SingleComponentLocationCache cache = new SingleComponentLocationCache(16);
+
+    DefaultComponentLocation first = cache.get("mule:logger", SingleComponentLocationCacheTestCase::createLocation);
+    DefaultComponentLocation second = cache.get("mule:logger", SingleComponentLocationCacheTestCase::createLocation);
+
+    assertThat(second, sameInstance(first));
+    assertThat(cache.getHitCount(), is(1L));
+    assertThat(cache.getMissCount(), is(1L));
+    assertThat(cache.getHitRate(), is(0.5));
+  }
+
+  @Test
+  public void eviction() {
+    SingleComponentLocationCache cache = new SingleComponentLocationCache(4);
+
+    for (int i = 0; i < 20; ++i) {
+      cache.get("mule:component" + i, SingleComponentLocationCacheTestCase::createLocation);
+    }
+    cache.cleanUp();
+
+    assertThat(cache.getEvictionCount(), greaterThan(0L));
+  }
+
+  @Test
+  public void invalidateAll() {
+    SingleComponentLocationCache cache = new SingleComponentLocationCache(16);
+
+    DefaultComponentLocation first = cache.get("mule:logger", SingleComponentLocationCacheTestCase::createLocation);
+    cache.invalidateAll();
+
+    assertThat(cache.get("mule:logger", SingleComponentLocationCacheTestCase::createLocation), not(sameInstance(first)));
+    assertThat(cache.getMissCount(), is(2L));
+  }
+
+  @Test
+  public void fromSingleComponentIsCached() {
+    long hits = SingleComponentLocationCache.shared().getHitCount();
+
+    DefaultComponentLocation location = DefaultComponentLocation.fromSingleComponent("mule:set-payload");
+
+    assertThat(DefaultComponentLocation.from("mule:set-payload"), sameInstance(location));
+    assertThat(SingleComponentLocationCache.shared().getHitCount(), greaterThan(hits));
+    assertThat(location.getLocation(), is("mule:set-payload"));
+    assertThat(location.getComponentIdentifier().getIdentifier().getName(), is("set-payload"));
+  }
+
+  private static DefaultComponentLocation createLocation(String component) {
+    return new DefaultComponentLocation(of(component), emptyList());
+  }
+}
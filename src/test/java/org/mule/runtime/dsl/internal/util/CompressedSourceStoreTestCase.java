@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.internal.util;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.mule.runtime.dsl.api.xml.parser.ConfigLine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+
+@Feature(DSL_PARSING)
+public class CompressedSourceStoreTestCase {
+
+  @Test
+  public void readFromOpenChunk() {
+    CompressedSourceStore store = new CompressedSourceStore(1024, 16);
+
+    Supplier<String> stored = store.store("<logger level=\"INFO\"/>");
+
+    assertThat(stored.get(), is("<logger level=\"INFO\"/>"));
+    assertThat(store.getDecompressions(), is(0L));
+    assertThat(store.getCompressedBytes(), is(0L));
+  }
+
+  @Test
+  public void readFromCompressedChunks() {
+    CompressedSourceStore store = new CompressedSourceStore(512, 0);
+
+    List<String> sources = new ArrayList<>();
+    List<Supplier<String>> stored = new ArrayList<>();
+    for (int i = 0; i < 200; ++i) {
+      String source = "<flow name=\"flow" + i + "\">\n<logger level=\"INFO\" message=\"#[payload]\"/>\n</flow>";
+      sources.add(source);
+      stored.add(store.store(source));
+    }
+    store.flush();
+
+    for (int i = 0; i < sources.size(); ++i) {
+      assertThat(stored.get(i).get(), is(sources.get(i)));
+    }
+    assertThat(store.getDecompressions(), is((long) sources.size()));
+    assertThat(store.getCompressedBytes(), greaterThan(0L));
+    assertThat(store.getCompressedBytes(), lessThan(store.getStoredBytes() / 4));
+  }
+
+  @Test
+  public void recentlyReadAreCached() {
+    CompressedSourceStore store = new CompressedSourceStore(1024, 16);
+
+    Supplier<String> stored = store.store("<logger/>");
+    store.flush();
+
+    assertThat(stored.get(), is("<logger/>"));
+    assertThat(stored.get(), is("<logger/>"));
+    assertThat(store.getDecompressions(), is(1L));
+  }
+
+  @Test
+  public void largerThanChunk() {
+    CompressedSourceStore store = new CompressedSourceStore(8, 0);
+
+    Supplier<String> small = store.store("<a/>");
+    Supplier<String> large = store.store("<set-payload value=\"\u00f1and\u00fa\"/>");
+    store.flush();
+
+    assertThat(small.get(), is("<a/>"));
+    assertThat(large.get(), is("<set-payload value=\"\u00f1and\u00fa\"/>"));
+  }
+
+  @Test
+  public void nullIsNotStored() {
+    assertThat(new CompressedSourceStore(1024, 16).store(null), is(nullValue()));
+  }
+
+  @Test
+  public void configLineSourceCode() {
+    CompressedSourceStore store = new CompressedSourceStore(1024, 16);
+
+    ConfigLine configLine = new ConfigLine.Builder()
+        .setIdentifier("logger")
+        .setSourceCodeSupplier(store.store("<logger/>"))
+        .build();
+    store.flush();
+
+    assertThat(configLine.getSourceCode(), is("<logger/>"));
+  }
+}
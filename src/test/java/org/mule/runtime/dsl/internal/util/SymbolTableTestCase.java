@@ -0,0 +1,88 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.internal.util;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+import static org.mule.runtime.dsl.internal.util.SymbolTable.newSymbolTable;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+
+@Feature(DSL_PARSING)
+public class SymbolTableTestCase {
+
+  @Test
+  public void equalStringsAreCanonicalized() {
+    SymbolTable symbolTable = newSymbolTable();
+
+    String first = new String("logger");
+    String second = new String("logger");
+
+    assertThat(symbolTable.canonicalize(first), sameInstance(first));
+    assertThat(symbolTable.canonicalize(second), sameInstance(first));
+  }
+
+  @Test
+  public void metrics() {
+    SymbolTable symbolTable = newSymbolTable();
+
+    symbolTable.canonicalize(new String("flow"));
+    assertThat(symbolTable.getLookups(), is(1L));
+    assertThat(symbolTable.getDeduplicated(), is(0L));
+    assertThat(symbolTable.getBytesSaved(), is(0L));
+
+    symbolTable.canonicalize(new String("flow"));
+    symbolTable.canonicalize(new String("flow"));
+    assertThat(symbolTable.getLookups(), is(3L));
+    assertThat(symbolTable.getDeduplicated(), is(2L));
+    assertThat(symbolTable.getBytesSaved(), greaterThan(2L * "flow".length()));
+  }
+
+  @Test
+  public void canonicalInstanceIsNotCountedAsSaved() {
+    SymbolTable symbolTable = newSymbolTable();
+
+    String symbol = new String("flow");
+    symbolTable.canonicalize(symbol);
+    symbolTable.canonicalize(symbol);
+
+    assertThat(symbolTable.getDeduplicated(), is(0L));
+    assertThat(symbolTable.getBytesSaved(), is(0L));
+  }
+
+  @Test
+  public void nullSymbol() {
+    SymbolTable symbolTable = newSymbolTable();
+
+    assertThat(symbolTable.canonicalize(null), is(nullValue()));
+    assertThat(symbolTable.getLookups(), is(0L));
+  }
+
+  @Test
+  public void separateTablesDoNotShareSymbols() {
+    String first = new String("choice");
+    String second = new String("choice");
+
+    newSymbolTable().canonicalize(first);
+    assertThat(newSymbolTable().canonicalize(second), sameInstance(second));
+  }
+
+  @Test
+  public void sharedTable() {
+    String first = new String("sharedTableSymbol");
+    String second = new String("sharedTableSymbol");
+
+    String canonical = SymbolTable.shared().canonicalize(first);
+    assertThat(SymbolTable.shared().canonicalize(second), sameInstance(canonical));
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.internal.xml.parser;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+
+import static java.lang.System.lineSeparator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.mule.runtime.dsl.internal.xml.parser.XmlMetadataAnnotations.TagBoundaries;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+import org.xml.sax.helpers.AttributesImpl;
+
+@Feature(DSL_PARSING)
+public class DefaultXmlMetadataAnnotationsTestCase {
+
+  @Test
+  public void tagBoundaries() {
+    DefaultXmlMetadataAnnotations annotations = new DefaultXmlMetadataAnnotations();
+    annotations.setOpeningTagBoundaries(7, 5, 7, 23);
+    annotations.setClosingTagBoundaries(9, 5, 9, 12);
+
+    assertBoundaries(annotations.getOpeningTagBoundaries(), 7, 5, 7, 23);
+    assertBoundaries(annotations.getClosingTagBoundaries(), 9, 5, 9, 12);
+    assertThat(annotations.isSelfClosing(), is(false));
+  }
+
+  @Test
+  public void tagBoundariesThroughView() {
+    DefaultXmlMetadataAnnotations annotations = new DefaultXmlMetadataAnnotations();
+    TagBoundaries opening = annotations.getOpeningTagBoundaries();
+    opening.setStartLineNumber(Integer.MAX_VALUE);
+    opening.setStartColumnNumber(-1);
+    opening.setEndLineNumber(3);
+    opening.setEndColumnNumber(Integer.MIN_VALUE);
+
+    assertBoundaries(annotations.getOpeningTagBoundaries(), Integer.MAX_VALUE, -1, 3, Integer.MIN_VALUE);
+    assertBoundaries(annotations.getClosingTagBoundaries(), 0, 0, 0, 0);
+  }
+
+  @Test
+  public void tagBoundariesShorthands() {
+    DefaultXmlMetadataAnnotations annotations = new DefaultXmlMetadataAnnotations();
+    annotations.setOpeningTagBoundaries(7, 5, 7, 23);
+    annotations.setClosingTagBoundaries(9, 5, 9, 12);
+
+    assertThat(annotations.getOpeningTagStartLineNumber(), is(7));
+    assertThat(annotations.getOpeningTagStartColumnNumber(), is(5));
+    assertThat(annotations.getClosingTagEndLineNumber(), is(9));
+  }
+
+  @Test
+  public void selfClosing() {
+    DefaultXmlMetadataAnnotations annotations = new DefaultXmlMetadataAnnotations();
+    annotations.setOpeningTagBoundaries(8, 9, 8, 75);
+    annotations.setClosingTagBoundaries(8, 9, 8, 75);
+
+    assertThat(annotations.isSelfClosing(), is(true));
+  }
+
+  @Test
+  public void elementStartWithAttributes() {
+    AttributesImpl atts = new AttributesImpl();
+    atts.addAttribute("", "name", "name", "CDATA", "myFlow");
+    atts.addAttribute("", "initialState", "initialState", "CDATA", "stopped");
+
+    DefaultXmlMetadataAnnotations annotations = new DefaultXmlMetadataAnnotations();
+    annotations.appendElementStart("flow", atts);
+    annotations.appendElementEnd("flow");
+
+    assertThat(annotations.getElementString(), is("<flow name=\"myFlow\" initialState=\"stopped\"></flow>"));
+  }
+
+  @Test
+  public void elementStartWithNamespaces() {
+    AttributesImpl atts = new AttributesImpl();
+    atts.addAttribute("", "", "xmlns:http", "CDATA", "http://www.mulesoft.org/schema/mule/http");
+    atts.addAttribute("", "config-ref", "config-ref", "CDATA", "listenerConfig");
+    atts.addAttribute("http://www.mulesoft.org/schema/mule/documentation", "name", "doc:name", "CDATA", "Listener");
+
+    DefaultXmlMetadataAnnotations annotations = new DefaultXmlMetadataAnnotations();
+    annotations.appendElementStart("http:listener", atts);
+    annotations.appendElementEnd("http:listener");
+
+    assertThat(annotations.getElementString(),
+               is("<http:listener xmlns:http=\"http://www.mulesoft.org/schema/mule/http\" config-ref=\"listenerConfig\""
+                   + " doc:name=\"Listener\"></http:listener>"));
+  }
+
+  @Test
+  public void elementStartSameAsFromMap() {
+    AttributesImpl atts = new AttributesImpl();
+    atts.addAttribute("", "level", "level", "CDATA", "INFO");
+    atts.addAttribute("", "message", "message", "CDATA", "#[payload]");
+
+    Map<String, String> attsMap = new LinkedHashMap<>();
+    attsMap.put("level", "INFO");
+    attsMap.put("message", "#[payload]");
+
+    DefaultXmlMetadataAnnotations fromAttributes = new DefaultXmlMetadataAnnotations();
+    fromAttributes.appendElementStart("logger", atts);
+    DefaultXmlMetadataAnnotations fromMap = new DefaultXmlMetadataAnnotations();
+    fromMap.appendElementStart("logger", attsMap);
+
+    assertThat(fromAttributes.getElementString(), is(fromMap.getElementString()));
+  }
+
+  @Test
+  public void selfClosingElementSource() {
+    AttributesImpl atts = new AttributesImpl();
+    atts.addAttribute("", "message", "message", "CDATA", "Hello");
+
+    DefaultXmlMetadataAnnotations annotations = new DefaultXmlMetadataAnnotations();
+    annotations.appendElementStart("logger", atts);
+    annotations.appendElementEnd("logger");
+
+    // the source is rebuilt with explicit opening and closing tags, the same way as for empty elements written that way
+    assertThat(annotations.getElementString(), is("<logger message=\"Hello\"></logger>"));
+  }
+
+  @Test
+  public void bodyIsTrimmed() {
+    DefaultXmlMetadataAnnotations annotations = new DefaultXmlMetadataAnnotations();
+    annotations.appendElementStart("set-payload", new AttributesImpl());
+    annotations.appendElementBody(" \t  Hello world \n  ");
+    annotations.appendElementEnd("set-payload");
+
+    assertThat(annotations.getElementString(), is("<set-payload>Hello world</set-payload>"));
+  }
+
+  @Test
+  public void nestedElementBodyIsTrimmed() {
+    DefaultXmlMetadataAnnotations annotations = new DefaultXmlMetadataAnnotations();
+    annotations.appendElementStart("flow", new AttributesImpl());
+    annotations.appendElementBody(lineSeparator() + "  <logger></logger>  " + lineSeparator());
+    annotations.appendElementEnd("flow");
+
+    assertThat(annotations.getElementString(),
+               is("<flow>" + lineSeparator() + "<logger></logger>" + lineSeparator() + "</flow>"));
+  }
+
+  private static void assertBoundaries(TagBoundaries boundaries, int startLine, int startColumn, int endLine, int endColumn) {
+    assertThat(boundaries.getStartLineNumber(), is(startLine));
+    assertThat(boundaries.getStartColumnNumber(), is(startColumn));
+    assertThat(boundaries.getEndLineNumber(), is(endLine));
+    assertThat(boundaries.getEndColumnNumber(), is(endColumn));
+  }
+}
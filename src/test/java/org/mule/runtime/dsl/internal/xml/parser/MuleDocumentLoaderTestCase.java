@@ -7,6 +7,7 @@
 package org.mule.runtime.dsl.internal.xml.parser;
 
 import static java.lang.Thread.currentThread;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -27,6 +28,7 @@ import org.w3c.dom.Document;
 import org.xml.sax.InputSource;
 
 import javax.xml.parsers.SAXParserFactory;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.URLClassLoader;
 
@@ -179,4 +181,68 @@ public class MuleDocumentLoaderTestCase {
     assertThat(loggerAnnotations.getClosingTagBoundaries().getEndLineNumber(), is(10));
     assertThat(loggerAnnotations.getClosingTagBoundaries().getEndColumnNumber(), is(75));
   }
+
+  @Test
+  public void xmlMetadataIsProperlyPopulatedWhenStartTagSpansLines() throws Exception {
+    Document document = loadDocument("<mule>\n"
+        + "    <flow name=\"myFlow\"\n"
+        + "          initialState=\"stopped\">\n"
+        + "        <logger level=\"INFO\"\n"
+        + "                message=\"Hello\"/>\n"
+        + "    </flow>\n"
+        + "</mule>\n");
+
+    XmlMetadataAnnotations flowAnnotations =
+        (XmlMetadataAnnotations) document.getElementsByTagName("flow").item(0).getUserData(METADATA_ANNOTATIONS_KEY);
+    assertThat(flowAnnotations.isSelfClosing(), is(false));
+    assertThat(flowAnnotations.getOpeningTagBoundaries().getStartLineNumber(), is(2));
+    assertThat(flowAnnotations.getOpeningTagBoundaries().getStartColumnNumber(), is(5));
+    assertThat(flowAnnotations.getOpeningTagBoundaries().getEndLineNumber(), is(3));
+    assertThat(flowAnnotations.getOpeningTagBoundaries().getEndColumnNumber(), is(34));
+
+    assertThat(flowAnnotations.getClosingTagBoundaries().getStartLineNumber(), is(6));
+    assertThat(flowAnnotations.getClosingTagBoundaries().getStartColumnNumber(), is(5));
+    assertThat(flowAnnotations.getClosingTagBoundaries().getEndLineNumber(), is(6));
+    assertThat(flowAnnotations.getClosingTagBoundaries().getEndColumnNumber(), is(12));
+
+    XmlMetadataAnnotations loggerAnnotations =
+        (XmlMetadataAnnotations) document.getElementsByTagName("logger").item(0).getUserData(METADATA_ANNOTATIONS_KEY);
+    assertThat(loggerAnnotations.isSelfClosing(), is(true));
+    assertThat(loggerAnnotations.getOpeningTagBoundaries().getStartLineNumber(), is(4));
+    assertThat(loggerAnnotations.getOpeningTagBoundaries().getStartColumnNumber(), is(9));
+    assertThat(loggerAnnotations.getOpeningTagBoundaries().getEndLineNumber(), is(5));
+    assertThat(loggerAnnotations.getOpeningTagBoundaries().getEndColumnNumber(), is(34));
+    assertThat(loggerAnnotations.getElementString(), is("<logger level=\"INFO\" message=\"Hello\"></logger>"));
+  }
+
+  @Test
+  public void elementBodyIsTrimmedWhenLoading() throws Exception {
+    Document document = loadDocument("<mule>\n"
+        + "    <set-payload value=\"x\">  \t\n"
+        + "        Hello world\t  \n"
+        + "    </set-payload>\n"
+        + "    <logger>\n"
+        + "    \n"
+        + "    </logger>\n"
+        + "</mule>\n");
+
+    XmlMetadataAnnotations setPayloadAnnotations =
+        (XmlMetadataAnnotations) document.getElementsByTagName("set-payload").item(0).getUserData(METADATA_ANNOTATIONS_KEY);
+    assertThat(setPayloadAnnotations.getElementString(), is("<set-payload value=\"x\"><![CDATA[Hello world]]></set-payload>"));
+
+    XmlMetadataAnnotations loggerAnnotations =
+        (XmlMetadataAnnotations) document.getElementsByTagName("logger").item(0).getUserData(METADATA_ANNOTATIONS_KEY);
+    assertThat(loggerAnnotations.getElementString(), is("<logger></logger>"));
+  }
+
+  private Document loadDocument(String content) throws Exception {
+    InputSource is = new InputSource(new ByteArrayInputStream(content.getBytes(UTF_8)));
+    XmlGathererErrorHandler errorHandler = new DefaultXmlGathererErrorHandlerFactory().create();
+    Document document = new MuleDocumentLoader().loadDocument(SAXParserFactory::newInstance, is, null, errorHandler, 0, false,
+                                                              null);
+
+    assertThat(document, is(notNullValue()));
+    assertThat(errorHandler.getErrors(), is(empty()));
+    return document;
+  }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.internal.xml.parser;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+import static org.mule.runtime.dsl.api.xml.parser.MetadataCaptureLevel.FULL_SOURCE;
+import static org.mule.runtime.dsl.api.xml.parser.MetadataCaptureLevel.NONE;
+import static org.mule.runtime.dsl.api.xml.parser.MetadataCaptureLevel.POSITIONS_ONLY;
+import static org.mule.runtime.dsl.api.xml.parser.XmlApplicationParser.IS_CDATA;
+import static org.mule.runtime.dsl.internal.util.SymbolTable.newSymbolTable;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.mule.runtime.dsl.api.xml.parser.ConfigLine;
+import org.mule.runtime.dsl.api.xml.parser.MetadataCaptureLevel;
+
+import java.io.ByteArrayInputStream;
+
+import javax.xml.parsers.SAXParserFactory;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+@Feature(DSL_PARSING)
+public class XmlApplicationParserTestCase {
+
+  private static final String MULE_OPEN = "<mule xmlns=\"http://www.mulesoft.org/schema/mule/core\"\n"
+      + "      xmlns:doc=\"http://www.mulesoft.org/schema/mule/documentation\">\n";
+
+  @Test
+  public void wideDocument() throws Exception {
+    StringBuilder xml = new StringBuilder(MULE_OPEN);
+    for (int i = 0; i < 50; ++i) {
+      xml.append("  <flow name=\"flow").append(i).append("\" doc:name=\"Flow ").append(i).append("\">\n")
+          .append("    <logger message=\"#[").append(i).append("]\"/>\n")
+          .append("    <!-- a comment -->\n")
+          .append("    <set-payload><![CDATA[payload ").append(i).append("]]></set-payload>\n")
+          .append("    <choice><when expression=\"#[true]\"><logger/></when></choice>\n")
+          .append("  </flow>\n");
+    }
+    xml.append("</mule>\n");
+
+    ConfigLine root = parse(xml.toString());
+
+    assertThat(root.getChildren().size(), is(50));
+    assertThat(root.getChildren().get(7).getConfigAttributes().get("name").getValue(), is("flow7"));
+    assertThat(root.getChildren().get(7).getChildren().size(), is(3));
+    assertThat(root.getChildren().get(7).getChildren().get(1).getTextContent(), is("payload 7"));
+    assertThat(root.getChildren().get(7).getChildren().get(1).getCustomAttributes().get(IS_CDATA), is(true));
+    assertThat(root.getChildren().get(7).getChildren().get(2).getChildren().get(0).getChildren().size(), is(1));
+  }
+
+  @Test
+  public void deepDocument() throws Exception {
+    int depth = 5000;
+    StringBuilder xml = new StringBuilder(MULE_OPEN).append("<flow name=\"deep\">");
+    for (int i = 0; i < depth; ++i) {
+      xml.append("<try>");
+    }
+    xml.append("<logger/>");
+    for (int i = 0; i < depth; ++i) {
+      xml.append("</try>");
+    }
+    xml.append("</flow></mule>");
+
+    ConfigLine root = parse(xml.toString());
+
+    ConfigLine current = root.getChildren().get(0);
+    int tries = 0;
+    while (current.getIdentifier().equals("try") || current.getIdentifier().equals("flow")) {
+      if (current.getIdentifier().equals("try")) {
+        tries++;
+      }
+      current = current.getChildren().get(0);
+    }
+    assertThat(tries, is(depth));
+    assertThat(current.getIdentifier(), is("logger"));
+  }
+
+  @Test
+  public void positionsOnlyCapture() throws Exception {
+    String xml = MULE_OPEN + "  <flow name=\"flow\">\n    <logger password=\"secret\"/>\n  </flow>\n</mule>\n";
+
+    ConfigLine full = parse(xml, FULL_SOURCE).getChildren().get(0);
+    ConfigLine positions = parse(xml, POSITIONS_ONLY).getChildren().get(0);
+
+    assertThat(positions, is(full));
+    assertThat(positions.getLineNumber(), is(full.getLineNumber()));
+    assertThat(positions.getEndLineNumber(), is(full.getEndLineNumber()));
+    assertThat(positions.getStartColumn(), is(full.getStartColumn()));
+    assertThat(positions.getChildren().get(0).getLineNumber(), is(full.getChildren().get(0).getLineNumber()));
+    assertThat(positions.getChildren().get(0).getStartColumn(), is(full.getChildren().get(0).getStartColumn()));
+    assertThat(full.getSourceCode().length(), greaterThan(0));
+    assertThat(positions.getSourceCode(), is(nullValue()));
+  }
+
+  @Test
+  public void noMetadataCapture() throws Exception {
+    String xml = MULE_OPEN + "  <flow name=\"flow\">\n    <logger/>\n  </flow>\n</mule>\n";
+
+    ConfigLine full = parse(xml, FULL_SOURCE);
+    ConfigLine none = parse(xml, NONE);
+
+    assertThat(none, is(full));
+    assertThat(none.getChildren().get(0).getLineNumber(), is(0));
+    assertThat(none.getChildren().get(0).getSourceCode(), is(nullValue()));
+  }
+
+  private ConfigLine parse(String xml) throws Exception {
+    return parse(xml, FULL_SOURCE);
+  }
+
+  private ConfigLine parse(String xml, MetadataCaptureLevel metadataCaptureLevel) throws Exception {
+    Document document = new MuleDocumentLoader(SensitiveAttributeMasker.getDefault(), metadataCaptureLevel)
+        .loadDocument(SAXParserFactory::newInstance, new InputSource(new ByteArrayInputStream(xml.getBytes(UTF_8))), null,
+                      new DefaultXmlGathererErrorHandlerFactory().create(), 0, false, null);
+    return new XmlApplicationParser(emptyList(), newSymbolTable())
+        .parse(document.getDocumentElement()).get();
+  }
+}
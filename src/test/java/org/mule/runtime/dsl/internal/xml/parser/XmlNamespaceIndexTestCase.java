@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.dsl.internal.xml.parser;
+
+import static org.mule.runtime.dsl.AllureConstants.DslParsing.DSL_PARSING;
+import static org.mule.runtime.dsl.internal.xml.parser.XmlNamespaceIndex.forProviders;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.mule.runtime.dsl.api.xml.XmlNamespaceInfo;
+import org.mule.runtime.dsl.api.xml.XmlNamespaceInfoProvider;
+import org.mule.runtime.dsl.api.xml.parser.XmlApplicationParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.qameta.allure.Feature;
+import org.junit.Test;
+
+@Feature(DSL_PARSING)
+public class XmlNamespaceIndexTestCase {
+
+  private static final String HTTP_URI = "http://www.mulesoft.org/schema/mule/http";
+  private static final String DB_URI = "http://www.mulesoft.org/schema/mule/db";
+
+  private final XmlNamespaceInfoProvider httpProvider = provider(HTTP_URI, "http");
+  private final XmlNamespaceInfoProvider dbProvider = provider(DB_URI, "db");
+
+  @Test
+  public void sharedForSameProviders() {
+    List<XmlNamespaceInfoProvider> providers = new ArrayList<>(asList(httpProvider, dbProvider));
+
+    assertThat(forProviders(providers), sameInstance(forProviders(asList(httpProvider, dbProvider))));
+  }
+
+  @Test
+  public void notSharedForDifferentProviders() {
+    XmlNamespaceIndex index = forProviders(asList(httpProvider, dbProvider));
+
+    assertThat(forProviders(singletonList(httpProvider)), not(sameInstance(index)));
+    assertThat(forProviders(asList(dbProvider, httpProvider)), not(sameInstance(index)));
+  }
+
+  @Test
+  public void lookup() {
+    XmlNamespaceIndex index = forProviders(asList(httpProvider, dbProvider));
+
+    assertThat(index.contains(HTTP_URI), is(true));
+    assertThat(index.getNamespace(HTTP_URI), is("http"));
+    assertThat(index.getNamespace(DB_URI), is("db"));
+    assertThat(index.contains("http://unknown"), is(false));
+    assertThat(index.getNamespace("http://unknown"), is(nullValue()));
+    assertThat(index.contains(null), is(false));
+  }
+
+  @Test
+  public void firstProviderTakesPrecedence() {
+    XmlNamespaceIndex index = forProviders(asList(httpProvider, provider(HTTP_URI, "other-http")));
+
+    assertThat(index.getNamespace(HTTP_URI), is("http"));
+  }
+
+  @Test
+  public void normalizedNamespace() {
+    XmlApplicationParser parser = new XmlApplicationParser(asList(httpProvider, provider(DB_URI, null)));
+
+    assertThat(parser.getNormalizedNamespace(HTTP_URI, "h"), is("http"));
+    assertThat(parser.getNormalizedNamespace(DB_URI, "d"), is("d"));
+    assertThat(parser.getNormalizedNamespace("http://www.mulesoft.org/schema/mule/domain", "x"), is("domain"));
+    assertThat(parser.getNormalizedNamespace("http://unknown", "u"), is("undefined"));
+  }
+
+  private static XmlNamespaceInfoProvider provider(String namespaceUri, String namespace) {
+    XmlNamespaceInfo namespaceInfo = new XmlNamespaceInfo() {
+
+      @Override
+      public String getNamespaceUriPrefix() {
+        return namespaceUri;
+      }
+
+      @Override
+      public String getNamespace() {
+        return namespace;
+      }
+    };
+    return () -> singletonList(namespaceInfo);
+  }
+}